@@ -0,0 +1,40 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import org.bukkit.World;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+public final class BenchmarkServer {
+
+    private static ServerMock server;
+    private static DeadOrAlive plugin;
+    private static int users;
+
+    private BenchmarkServer() {
+    }
+
+    public static synchronized DeadOrAlive start() {
+        if (users++ == 0) {
+            server = MockBukkit.mock();
+            plugin = MockBukkit.load(DeadOrAlive.class);
+        }
+        return plugin;
+    }
+
+    public static synchronized World world(String name) {
+        if (server == null) {
+            throw new IllegalStateException("The benchmark server is not running.");
+        }
+        World world = server.getWorld(name);
+        return world != null ? world : server.addSimpleWorld(name);
+    }
+
+    public static synchronized void stop() {
+        if (users > 0 && --users == 0) {
+            MockBukkit.unmock();
+            server = null;
+            plugin = null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.profile.Histogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HistogramBenchmark {
+
+    private static final int SAMPLES = 4096;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        private final Histogram histogram = new Histogram();
+    }
+
+    @State(Scope.Thread)
+    public static class Samples {
+        private final long[] values = new long[SAMPLES];
+        private int cursor;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(System.identityHashCode(this));
+            for (int i = 0; i < SAMPLES; i++) {
+                values[i] = (long) Math.exp(random.nextDouble(5.0D, 18.0D));
+            }
+        }
+
+        private long next() {
+            return values[cursor++ & (SAMPLES - 1)];
+        }
+    }
+
+    @Benchmark
+    public void record(Shared shared, Samples samples) {
+        shared.histogram.record(samples.next());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended(Shared shared, Samples samples) {
+        shared.histogram.record(samples.next());
+    }
+
+    @Benchmark
+    public Histogram.Snapshot snapshot(Shared shared) {
+        return shared.histogram.snapshot();
+    }
+}
@@ -0,0 +1,54 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.message.MessageManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageManagerBenchmark {
+
+    private MessageManager messages;
+    private String player;
+
+    @Setup
+    public void setup() {
+        messages = BenchmarkServer.start().getMessageManager();
+        player = "Player" + System.nanoTime() % 1000;
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public String plain() {
+        return messages.getMessage("reload-success");
+    }
+
+    @Benchmark
+    public String withPlaceholders() {
+        return messages.getMessage("event-player-disconnected", "%player%", player, "%time%", "0:30");
+    }
+
+    @Benchmark
+    public String missing() {
+        return messages.getMessage("not-a-message");
+    }
+}
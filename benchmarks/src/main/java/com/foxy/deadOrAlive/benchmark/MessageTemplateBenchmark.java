@@ -0,0 +1,53 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.message.MessageTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageTemplateBenchmark {
+
+    private static final String TEXT = "%prefix% &7%player% reached stage &e%stage%&7 with &c%hearts%&7 hearts left.";
+    private static final String PLAIN = "&aConfiguration reloaded successfully.";
+
+    private MessageTemplate template;
+    private MessageTemplate plain;
+    private String player;
+
+    @Setup
+    public void setup() {
+        template = MessageTemplate.compile(TEXT);
+        plain = MessageTemplate.compile(PLAIN);
+        player = "Player" + System.nanoTime() % 1000;
+    }
+
+    @Benchmark
+    public MessageTemplate compile() {
+        return MessageTemplate.compile(TEXT);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.render("%prefix%", "&8[&cDoA&8]", "%player%", player, "%stage%", "3", "%hearts%", "7.5");
+    }
+
+    @Benchmark
+    public String renderWithoutPlaceholders() {
+        return plain.render("%player%", player);
+    }
+}
@@ -0,0 +1,105 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.teleport.PadIndex;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PadIndexBenchmark {
+
+    private static final String WORLD_NAME = "world";
+    private static final int LOOKUPS = 1024;
+
+    @Param({"16", "256", "4096"})
+    private int pads;
+
+    private World world;
+    private PadIndex index;
+    private Map<String, TeleportPoint> locationIndex;
+    private int[][] hits;
+    private int[][] misses;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        BenchmarkServer.start();
+        world = BenchmarkServer.world(WORLD_NAME);
+        index = new PadIndex();
+        locationIndex = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(1L);
+        int[][] placed = new int[pads][];
+        for (int i = 0; i < pads; i++) {
+            int x = random.nextInt(-2000, 2000);
+            int y = random.nextInt(60, 80);
+            int z = random.nextInt(-2000, 2000);
+            placed[i] = new int[]{x, y, z};
+            TeleportPoint point = new TeleportPoint(null, "room_" + (i % 9 + 1), "tp_" + i, "room_death", WORLD_NAME, x, y, z);
+            index.add(point);
+            locationIndex.put(toLocationKey(WORLD_NAME, x, y, z), point);
+        }
+
+        hits = new int[LOOKUPS][];
+        misses = new int[LOOKUPS][];
+        for (int i = 0; i < LOOKUPS; i++) {
+            hits[i] = placed[random.nextInt(pads)];
+            int[] pad = placed[random.nextInt(pads)];
+            misses[i] = new int[]{pad[0] + 1, pad[1], pad[2]};
+        }
+    }
+
+    @Benchmark
+    public TeleportPoint hit() {
+        int[] block = hits[cursor++ & (LOOKUPS - 1)];
+        return index.get(world, block[0], block[1], block[2]);
+    }
+
+    @Benchmark
+    public TeleportPoint missNearPad() {
+        int[] block = misses[cursor++ & (LOOKUPS - 1)];
+        return index.get(world, block[0], block[1], block[2]);
+    }
+
+    @Benchmark
+    public TeleportPoint stringKeyHit() {
+        int[] block = hits[cursor++ & (LOOKUPS - 1)];
+        return locationIndex.get(toLocationKey(world.getName(), block[0], block[1], block[2]));
+    }
+
+    @Benchmark
+    public TeleportPoint stringKeyMissNearPad() {
+        int[] block = misses[cursor++ & (LOOKUPS - 1)];
+        return locationIndex.get(toLocationKey(world.getName(), block[0], block[1], block[2]));
+    }
+
+    // The pre-PadIndex lookup: one world:x:y:z string per move event.
+    private static String toLocationKey(String world, int x, int y, int z) {
+        return world.toLowerCase() + ":" + x + ":" + y + ":" + z;
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+}
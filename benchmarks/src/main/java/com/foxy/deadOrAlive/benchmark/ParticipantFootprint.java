@@ -0,0 +1,99 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.game.GameEngine;
+import com.foxy.deadOrAlive.game.GameListener;
+import com.foxy.deadOrAlive.game.GameSettings;
+import com.foxy.deadOrAlive.game.Participant;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomType;
+import com.foxy.deadOrAlive.util.TimerWheel;
+import org.bukkit.Location;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class ParticipantFootprint {
+
+    private static final String[] ROOM_TYPES = {"home", "safe", "safe", "dead", "safe", "finish"};
+
+    private ParticipantFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Map<String, RoomType> types = new LinkedHashMap<>();
+        for (int i = 0; i < ROOM_TYPES.length; i++) {
+            types.put("room_" + (i + 1), RoomType.fromString(ROOM_TYPES[i]));
+        }
+        RoomGraph rooms = RoomGraph.of(types);
+        UUID[] uuids = new UUID[players];
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            uuids[i] = new UUID(1L, i);
+            names[i] = "Player" + i;
+        }
+
+        GameSettings settings = GameSettings.DEFAULTS;
+        SplittableRandom random = new SplittableRandom(1L);
+        GameListener listener = new RoomTransitionBenchmark.IdleListener();
+        Object[] shared = {uuids, names, rooms, settings, random, listener};
+
+        long current = footprint(engine(rooms, settings, random, listener, uuids, names, players), shared)
+                - footprint(engine(rooms, settings, random, listener, uuids, names, 0), shared);
+        long legacy = footprint(new LegacyLayout(rooms, uuids, players), shared)
+                - footprint(new LegacyLayout(rooms, uuids, 0), shared);
+
+        System.out.printf("Participant state for %,d players in %d rooms (UUIDs, names and the room graph excluded)%n",
+                players, rooms.size());
+        System.out.printf("  seven maps (old EventManager): %,10d bytes, %,6.1f bytes per player%n",
+                legacy, legacy / (double) Math.max(1, players));
+        System.out.printf("  Participant + engine arrays:   %,10d bytes, %,6.1f bytes per player%n",
+                current, current / (double) Math.max(1, players));
+    }
+
+    private static GameEngine engine(RoomGraph rooms, GameSettings settings, SplittableRandom random,
+                                     GameListener listener, UUID[] uuids, String[] names, int players) {
+        GameEngine engine = new GameEngine(settings, random, listener);
+        engine.start(rooms, 0);
+        for (int i = 0; i < players; i++) {
+            Participant participant = engine.join(uuids[i], names[i], i % rooms.size());
+            engine.recordDamage(participant, 0.5D * (i % 7));
+            participant.setWarningCooldownTick(i);
+        }
+        return engine;
+    }
+
+    private static long footprint(Object root, Object[] shared) {
+        return GraphLayout.parseInstance(root).subtract(GraphLayout.parseInstance(shared)).totalSize();
+    }
+
+    // The per-player state EventManager kept before Participant, filled with the same rooms, hearts and cooldowns.
+    private static final class LegacyLayout {
+        private final Map<UUID, String> playerRooms = new HashMap<>();
+        private final Map<String, Set<UUID>> roomPlayers = new HashMap<>();
+        private final Map<UUID, Double> heartsLost = new HashMap<>();
+        private final Map<UUID, Long> teleportCooldown = new HashMap<>();
+        private final Map<UUID, TimerWheel.Timer> pendingDeaths = new HashMap<>();
+        private final Map<UUID, TimerWheel.Timer> pendingDisconnects = new HashMap<>();
+        private final Map<UUID, Location> disconnectLocations = new HashMap<>();
+
+        private LegacyLayout(RoomGraph rooms, UUID[] uuids, int players) {
+            List<String> ids = rooms.getIds();
+            for (int i = 0; i < players; i++) {
+                String room = ids.get(i % ids.size());
+                playerRooms.put(uuids[i], room);
+                roomPlayers.computeIfAbsent(room, key -> new HashSet<>()).add(uuids[i]);
+                heartsLost.put(uuids[i], 0.5D * (i % 7));
+                teleportCooldown.put(uuids[i], (long) i);
+            }
+        }
+    }
+}
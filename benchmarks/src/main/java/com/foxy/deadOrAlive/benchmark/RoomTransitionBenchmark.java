@@ -0,0 +1,135 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.game.GameEngine;
+import com.foxy.deadOrAlive.game.GameListener;
+import com.foxy.deadOrAlive.game.GameSettings;
+import com.foxy.deadOrAlive.game.Participant;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomTransitionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int participants;
+
+    private GameEngine engine;
+    private Participant[] movers;
+    private int safeRoom;
+    private int otherSafeRoom;
+    private int deadRoom;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Map<String, RoomType> types = new LinkedHashMap<>();
+        types.put("room_1", RoomType.HOME);
+        types.put("room_2", RoomType.SAFE);
+        types.put("room_3", RoomType.SAFE);
+        types.put("room_4", RoomType.DEAD);
+        RoomGraph rooms = RoomGraph.of(types);
+        safeRoom = rooms.indexOf("room_2");
+        otherSafeRoom = rooms.indexOf("room_3");
+        deadRoom = rooms.indexOf("room_4");
+
+        engine = new GameEngine(GameSettings.DEFAULTS, new SplittableRandom(1L), new IdleListener());
+        int stageRoom = rooms.indexOf("room_1");
+        engine.start(rooms, stageRoom);
+        // One participant stays in the stage room so the stage never advances while the others move.
+        engine.join(new UUID(0L, 0L), "anchor", stageRoom);
+        movers = new Participant[participants];
+        for (int i = 0; i < participants; i++) {
+            movers[i] = engine.join(new UUID(1L, i), "Player" + i, safeRoom);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.stop();
+    }
+
+    @Benchmark
+    public int safeTransition() {
+        Participant participant = movers[next()];
+        engine.moveParticipant(participant, participant.getRoom() == safeRoom ? otherSafeRoom : safeRoom);
+        return participant.getRoom();
+    }
+
+    @Benchmark
+    public int deadRoomAndBack() {
+        Participant participant = movers[next()];
+        int room = participant.getRoom();
+        engine.moveParticipant(participant, deadRoom);
+        engine.moveParticipant(participant, room);
+        return engine.getOccupancy(deadRoom);
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == movers.length ? 0 : index + 1;
+        return index;
+    }
+
+    static final class IdleListener implements GameListener {
+
+        @Override
+        public void onIntroFinished() {
+        }
+
+        @Override
+        public void onCountdownStarted(int remainingSeconds, int stageDurationSeconds) {
+        }
+
+        @Override
+        public void onCountdownTick(int remainingSeconds, int stageDurationSeconds) {
+        }
+
+        @Override
+        public void onDamageTick(int stageRoom, int damageHearts) {
+        }
+
+        @Override
+        public void onStageChanged(int stageIndex, int stageRoom) {
+        }
+
+        @Override
+        public void onDeathTimerExpired(Participant participant) {
+        }
+
+        @Override
+        public void onParticipantRemoved(Participant participant) {
+        }
+
+        @Override
+        public void onDisconnectElimination(Participant participant) {
+        }
+
+        @Override
+        public void onEventEnded(GameEngine.Outcome outcome, List<String> winners, Participant[] ended) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.foxy.deadOrAlive.benchmark;
+
+import com.foxy.deadOrAlive.util.TimerWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimerWheelBenchmark {
+
+    private static final Runnable NOOP = () -> {
+    };
+
+    @Param({"100", "10000"})
+    private int timers;
+
+    private TimerWheel wheel;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        wheel = new TimerWheel();
+        random = new SplittableRandom(1L);
+        for (int i = 0; i < timers; i++) {
+            wheel.scheduleRepeating(1L + random.nextInt(200), 1L + random.nextInt(200), NOOP);
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        return wheel.tick();
+    }
+
+    @Benchmark
+    public TimerWheel.Timer scheduleAndCancel() {
+        TimerWheel.Timer timer = wheel.schedule(1L + random.nextInt(6000), NOOP);
+        timer.cancel();
+        return timer;
+    }
+}
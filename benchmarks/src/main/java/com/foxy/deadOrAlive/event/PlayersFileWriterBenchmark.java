@@ -0,0 +1,87 @@
+package com.foxy.deadOrAlive.event;
+
+import com.foxy.deadOrAlive.benchmark.BenchmarkServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayersFileWriterBenchmark {
+
+    private static final List<String> ROOMS = List.of("room_1", "room_2", "room_3", "room_4", "room_5", "room_6");
+
+    @Param({"10", "100", "1000"})
+    private int participants;
+
+    private Path folder;
+    private PlayersFileWriter writer;
+    private UUID[] uuids;
+    private int[] rooms;
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        folder = Files.createTempDirectory("doa-players");
+        File playersFile = folder.resolve("players.yml").toFile();
+        writer = new PlayersFileWriter(BenchmarkServer.start(), playersFile,
+                new EventJournal(folder.resolve("event.journal").toFile()));
+        writer.reset(ROOMS);
+        uuids = new UUID[participants];
+        rooms = new int[participants];
+        for (int i = 0; i < participants; i++) {
+            uuids[i] = new UUID(1L, i);
+            rooms[i] = i % ROOMS.size();
+            writer.join(uuids[i], "Player" + i, ROOMS.get(rooms[i]));
+        }
+        writer.flush();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writer.shutdown();
+        BenchmarkServer.stop();
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public String serialize() {
+        return writer.serialize();
+    }
+
+    @Benchmark
+    public void moveAndFlush() {
+        int index = cursor;
+        cursor = index + 1 == uuids.length ? 0 : index + 1;
+        rooms[index] = (rooms[index] + 1) % ROOMS.size();
+        writer.move(uuids[index], ROOMS.get(rooms[index]));
+        writer.flush();
+    }
+}
@@ -1,49 +1,65 @@
 package com.foxy.deadOrAlive;
 
+import com.foxy.deadOrAlive.arena.ArenaManager;
+import com.foxy.deadOrAlive.cache.LayoutCache;
 import com.foxy.deadOrAlive.command.DoaCommand;
-import com.foxy.deadOrAlive.event.EventManager;
 import com.foxy.deadOrAlive.lobby.LobbyManager;
 import com.foxy.deadOrAlive.lobby.LobbySelectionManager;
 import com.foxy.deadOrAlive.message.MessageManager;
-import com.foxy.deadOrAlive.room.RoomManager;
+import com.foxy.deadOrAlive.profile.Profiler;
+import com.foxy.deadOrAlive.reload.ConfigWatcher;
+import com.foxy.deadOrAlive.reload.ReloadManager;
 import com.foxy.deadOrAlive.room.setup.RoomSetupManager;
-import com.foxy.deadOrAlive.teleport.TeleportManager;
+import com.foxy.deadOrAlive.teleport.TeleportPipeline;
 import com.foxy.deadOrAlive.teleport.setup.TeleportSetupManager;
+import com.foxy.deadOrAlive.util.TaskScheduler;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
 import java.util.Objects;
 
 public final class DeadOrAlive extends JavaPlugin {
 
+    private TaskScheduler taskScheduler;
+    private LayoutCache layoutCache;
+    private Profiler profiler;
     private MessageManager messageManager;
     private LobbyManager lobbyManager;
     private LobbySelectionManager lobbySelectionManager;
-    private RoomManager roomManager;
     private RoomSetupManager roomSetupManager;
-    private TeleportManager teleportManager;
     private TeleportSetupManager teleportSetupManager;
-    private EventManager eventManager;
+    private TeleportPipeline teleportPipeline;
+    private ArenaManager arenaManager;
+    private ReloadManager reloadManager;
+    private ConfigWatcher configWatcher;
+    private volatile FileConfiguration reloadedConfig;
 
     @Override
     public void onEnable() {
         saveDefaultConfig();
 
+        taskScheduler = new TaskScheduler(this);
+        layoutCache = new LayoutCache(this);
+        layoutCache.open();
+        profiler = new Profiler(new File(getDataFolder(), "profiles"));
         messageManager = new MessageManager(this);
         lobbyManager = new LobbyManager(this);
-        roomManager = new RoomManager(this);
         roomSetupManager = new RoomSetupManager(this);
         teleportSetupManager = new TeleportSetupManager(this);
-        teleportManager = new TeleportManager(this);
         lobbySelectionManager = new LobbySelectionManager(this, lobbyManager);
-        eventManager = new EventManager(this, lobbyManager);
+        teleportPipeline = new TeleportPipeline(this);
+        arenaManager = new ArenaManager(this, lobbyManager);
+        layoutCache.close();
+        reloadManager = new ReloadManager(this);
+        configWatcher = new ConfigWatcher(this);
 
         PluginManager pluginManager = getServer().getPluginManager();
         pluginManager.registerEvents(roomSetupManager, this);
         pluginManager.registerEvents(teleportSetupManager, this);
-        pluginManager.registerEvents(teleportManager, this);
-        pluginManager.registerEvents(eventManager, this);
+        pluginManager.registerEvents(arenaManager, this);
         pluginManager.registerEvents(lobbySelectionManager, this);
 
         DoaCommand doaCommand = new DoaCommand(this);
@@ -51,11 +67,18 @@ public final class DeadOrAlive extends JavaPlugin {
         pluginCommand.setExecutor(doaCommand);
         pluginCommand.setTabCompleter(doaCommand);
 
+        configWatcher.sync();
         logStartupMessage();
     }
 
     @Override
     public void onDisable() {
+        if (configWatcher != null) {
+            configWatcher.stop();
+        }
+        if (reloadManager != null) {
+            reloadManager.shutdown();
+        }
         if (roomSetupManager != null) {
             roomSetupManager.cancelAllSessions();
         }
@@ -65,8 +88,11 @@ public final class DeadOrAlive extends JavaPlugin {
         if (lobbySelectionManager != null) {
             lobbySelectionManager.cancelAllSelections();
         }
-        if (eventManager != null) {
-            eventManager.shutdown();
+        if (arenaManager != null) {
+            arenaManager.shutdown();
+        }
+        if (teleportPipeline != null) {
+            teleportPipeline.shutdown();
         }
         logShutdownMessage();
     }
@@ -92,6 +118,34 @@ public final class DeadOrAlive extends JavaPlugin {
         getServer().getConsoleSender().sendMessage(line);
     }
 
+    @Override
+    public FileConfiguration getConfig() {
+        FileConfiguration config = reloadedConfig;
+        return config != null ? config : super.getConfig();
+    }
+
+    @Override
+    public void reloadConfig() {
+        super.reloadConfig();
+        reloadedConfig = null;
+    }
+
+    public void applyConfig(FileConfiguration config) {
+        reloadedConfig = config;
+    }
+
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    public LayoutCache getLayoutCache() {
+        return layoutCache;
+    }
+
+    public Profiler getProfiler() {
+        return profiler;
+    }
+
     public MessageManager getMessageManager() {
         return messageManager;
     }
@@ -104,23 +158,27 @@ public final class DeadOrAlive extends JavaPlugin {
         return lobbySelectionManager;
     }
 
-    public RoomManager getRoomManager() {
-        return roomManager;
-    }
-
     public RoomSetupManager getRoomSetupManager() {
         return roomSetupManager;
     }
 
-    public TeleportManager getTeleportManager() {
-        return teleportManager;
-    }
-
     public TeleportSetupManager getTeleportSetupManager() {
         return teleportSetupManager;
     }
 
-    public EventManager getEventManager() {
-        return eventManager;
+    public TeleportPipeline getTeleportPipeline() {
+        return teleportPipeline;
+    }
+
+    public ArenaManager getArenaManager() {
+        return arenaManager;
+    }
+
+    public ReloadManager getReloadManager() {
+        return reloadManager;
+    }
+
+    public ConfigWatcher getConfigWatcher() {
+        return configWatcher;
     }
 }
\ No newline at end of file
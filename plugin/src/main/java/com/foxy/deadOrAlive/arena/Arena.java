@@ -0,0 +1,95 @@
+package com.foxy.deadOrAlive.arena;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.event.EventManager;
+import com.foxy.deadOrAlive.lobby.LobbyManager;
+import com.foxy.deadOrAlive.room.RoomManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Map;
+
+public class Arena {
+
+    public static final String DEFAULT_NAME = "default";
+
+    private final DeadOrAlive plugin;
+    private final String name;
+    private final File folder;
+    private final RoomManager roomManager;
+    private final TeleportManager teleportManager;
+    private final EventManager eventManager;
+
+    public Arena(DeadOrAlive plugin, String name, File folder, LobbyManager lobbyManager) {
+        this.plugin = plugin;
+        this.name = name;
+        this.folder = folder;
+        if (!folder.exists() && !folder.mkdirs()) {
+            plugin.getLogger().warning("Could not create folder for arena '" + name + "'.");
+        }
+        this.roomManager = new RoomManager(plugin, this);
+        this.teleportManager = new TeleportManager(plugin, this);
+        this.eventManager = new EventManager(plugin, lobbyManager, this);
+    }
+
+    public void applyReload(StampedConfiguration roomsFile, Map<String, RoomManager.RoomData> rooms,
+                            StampedConfiguration teleportsFile, Map<String, Map<String, TeleportPoint>> teleports) {
+        roomManager.apply(roomsFile.configuration(), roomsFile.stamp(), rooms);
+        teleportManager.apply(teleportsFile.configuration(), teleportsFile.stamp(), teleports);
+        eventManager.reloadSettings();
+    }
+
+    public void saveDefaultResource(String resource, File target) {
+        if (target.exists()) {
+            return;
+        }
+
+        if (isDefault()) {
+            plugin.saveResource(resource, false);
+            return;
+        }
+
+        try (InputStream input = plugin.getResource(resource)) {
+            if (input == null) {
+                plugin.getLogger().warning("Default resource " + resource + " is missing from the plugin jar.");
+                return;
+            }
+            Files.copy(input, target.toPath());
+        } catch (IOException exception) {
+            plugin.getLogger().severe("Could not create " + resource + " for arena '" + name + "': " + exception.getMessage());
+        }
+    }
+
+    public boolean isDefault() {
+        return DEFAULT_NAME.equals(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public File getFolder() {
+        return folder;
+    }
+
+    public File getTemporalFolder() {
+        return new File(folder, "temporal");
+    }
+
+    public RoomManager getRoomManager() {
+        return roomManager;
+    }
+
+    public TeleportManager getTeleportManager() {
+        return teleportManager;
+    }
+
+    public EventManager getEventManager() {
+        return eventManager;
+    }
+}
@@ -0,0 +1,312 @@
+package com.foxy.deadOrAlive.arena;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.lobby.LobbyManager;
+import com.foxy.deadOrAlive.profile.Probe;
+import com.foxy.deadOrAlive.teleport.PadIndex;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public class ArenaManager implements Listener {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9_-]{1,32}");
+
+    private final DeadOrAlive plugin;
+    private final LobbyManager lobbyManager;
+    private final File arenasFolder;
+    private volatile Map<String, Arena> arenas = Collections.emptyMap();
+    private final Map<UUID, Arena> participantArenas = new ConcurrentHashMap<>();
+    private final ChunkTicketManager chunkTickets;
+    private volatile PadIndex padIndex = new PadIndex();
+
+    public ArenaManager(DeadOrAlive plugin, LobbyManager lobbyManager) {
+        this.plugin = plugin;
+        this.lobbyManager = lobbyManager;
+        this.arenasFolder = new File(plugin.getDataFolder(), "arenas");
+        this.chunkTickets = new ChunkTicketManager(plugin);
+        publish(Arena.DEFAULT_NAME, new Arena(plugin, Arena.DEFAULT_NAME, plugin.getDataFolder(), lobbyManager));
+        discoverArenas();
+        rebuildPadIndex();
+    }
+
+    private synchronized void discoverArenas() {
+        File[] folders = arenasFolder.listFiles(File::isDirectory);
+        if (folders == null) {
+            return;
+        }
+
+        for (File folder : folders) {
+            String name = folder.getName().toLowerCase(Locale.ROOT);
+            if (!isValidName(name) || arenas.containsKey(name)) {
+                continue;
+            }
+            publish(name, new Arena(plugin, name, folder, lobbyManager));
+        }
+    }
+
+    private synchronized void publish(String name, Arena arena) {
+        Map<String, Arena> copy = new LinkedHashMap<>(arenas);
+        copy.put(name, arena);
+        arenas = Collections.unmodifiableMap(copy);
+    }
+
+    public void refresh() {
+        discoverArenas();
+        rebuildPadIndex();
+    }
+
+    public void shutdown() {
+        for (Arena arena : arenas.values()) {
+            arena.getEventManager().shutdown();
+        }
+        participantArenas.clear();
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && NAME_PATTERN.matcher(name).matches();
+    }
+
+    public Arena getDefaultArena() {
+        return arenas.get(Arena.DEFAULT_NAME);
+    }
+
+    public Arena getArena(String name) {
+        if (name == null) {
+            return getDefaultArena();
+        }
+        return arenas.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public synchronized Arena createArena(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        if (!isValidName(normalized) || arenas.containsKey(normalized)) {
+            return null;
+        }
+
+        Arena arena = new Arena(plugin, normalized, new File(arenasFolder, normalized), lobbyManager);
+        publish(normalized, arena);
+        rebuildPadIndex();
+        return arena;
+    }
+
+    public Collection<Arena> getArenas() {
+        return arenas.values();
+    }
+
+    public void rebuildPadIndex() {
+        PadIndex index = new PadIndex();
+        for (Arena arena : arenas.values()) {
+            for (Map<String, TeleportPoint> roomTeleports : arena.getTeleportManager().getTeleports().values()) {
+                for (TeleportPoint point : roomTeleports.values()) {
+                    TeleportPoint displaced = index.add(point);
+                    if (displaced != null) {
+                        warnPadCollision(displaced, point);
+                    }
+                }
+            }
+        }
+        padIndex = index;
+    }
+
+    private void warnPadCollision(TeleportPoint hidden, TeleportPoint kept) {
+        plugin.getLogger().warning("Teleport pads " + describePad(hidden) + " and " + describePad(kept)
+                + " are on the same block (" + kept.getWorldName() + " " + kept.getX() + ", " + kept.getY() + ", "
+                + kept.getZ() + "); only " + describePad(kept) + " will work. Move one of them with /doa setteleports.");
+    }
+
+    private static String describePad(TeleportPoint point) {
+        return "'" + point.getArena().getName() + ":" + point.getOriginRoom() + "." + point.getTeleportKey() + "'";
+    }
+
+    public int updatePads(Map<String, Map<String, TeleportPoint>> previous, Map<String, Map<String, TeleportPoint>> current) {
+        Map<String, TeleportPoint> before = indexByLocation(previous, false);
+        Map<String, TeleportPoint> after = indexByLocation(current, true);
+        List<TeleportPoint> removed = new ArrayList<>();
+        List<TeleportPoint> added = new ArrayList<>();
+        for (Map.Entry<String, TeleportPoint> entry : before.entrySet()) {
+            TeleportPoint point = after.get(entry.getKey());
+            if (point == null || !point.sameAs(entry.getValue())) {
+                removed.add(entry.getValue());
+            }
+        }
+        for (Map.Entry<String, TeleportPoint> entry : after.entrySet()) {
+            TeleportPoint point = before.get(entry.getKey());
+            if (point == null || !point.sameAs(entry.getValue())) {
+                added.add(entry.getValue());
+            }
+        }
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            padIndex = padIndex.withChanges(removed, added, this::warnPadCollision);
+        }
+        return removed.size() + added.size();
+    }
+
+    private Map<String, TeleportPoint> indexByLocation(Map<String, Map<String, TeleportPoint>> teleports,
+                                                       boolean warnOnCollision) {
+        Map<String, TeleportPoint> points = new HashMap<>();
+        for (Map<String, TeleportPoint> roomTeleports : teleports.values()) {
+            for (TeleportPoint point : roomTeleports.values()) {
+                TeleportPoint displaced = points.put(point.getLocationKey(), point);
+                if (displaced != null && warnOnCollision) {
+                    warnPadCollision(displaced, point);
+                }
+            }
+        }
+        return points;
+    }
+
+    public TeleportPoint getTeleportPointAt(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return null;
+        }
+        return padIndex.get(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public ChunkTicketManager getChunkTickets() {
+        return chunkTickets;
+    }
+
+    public void bindParticipant(UUID uuid, Arena arena) {
+        participantArenas.put(uuid, arena);
+    }
+
+    public void unbindParticipant(UUID uuid, Arena arena) {
+        participantArenas.remove(uuid, arena);
+    }
+
+    public Arena getParticipantArena(UUID uuid) {
+        return participantArenas.get(uuid);
+    }
+
+    @EventHandler
+    public void onBlockBreak(BlockBreakEvent event) {
+        Location location = event.getBlock().getLocation();
+        TeleportPoint point = getTeleportPointAt(location);
+        if (point == null) {
+            return;
+        }
+
+        event.setCancelled(true);
+        event.getPlayer().sendMessage(plugin.getMessageManager().getMessage("setteleports-protected"));
+    }
+
+    @EventHandler
+    public void onPlayerMove(PlayerMoveEvent event) {
+        long started = plugin.getProfiler().begin();
+        handlePlayerMove(event);
+        plugin.getProfiler().end(Probe.PLAYER_MOVE, started);
+    }
+
+    private void handlePlayerMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        if (to == null) {
+            return;
+        }
+
+        PadIndex index = padIndex;
+        int y = to.getBlockY();
+        if (!index.isWithinBand(y)) {
+            return;
+        }
+
+        int x = to.getBlockX();
+        int z = to.getBlockZ();
+        Location from = event.getFrom();
+        if (from.getBlockX() == x && from.getBlockY() == y && from.getBlockZ() == z) {
+            return;
+        }
+
+        TeleportPoint point = index.get(to.getWorld(), x, y, z);
+        if (point == null) {
+            return;
+        }
+
+        Player player = event.getPlayer();
+        if (plugin.getTeleportSetupManager() != null &&
+                plugin.getTeleportSetupManager().isInSession(player.getUniqueId())) {
+            return;
+        }
+
+        if (plugin.getRoomSetupManager() != null &&
+                plugin.getRoomSetupManager().isInSession(player.getUniqueId())) {
+            return;
+        }
+
+        point.getArena().getTeleportManager().handlePadUse(player, point);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onParticipantDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+
+        Arena arena = participantArenas.get(player.getUniqueId());
+        if (arena != null) {
+            arena.getEventManager().onParticipantDamage(event);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        Arena arena = participantArenas.get(event.getEntity().getUniqueId());
+        if (arena != null) {
+            arena.getEventManager().onPlayerDeath(event);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        if (participantArenas.containsKey(event.getPlayer().getUniqueId())) {
+            return;
+        }
+
+        for (Arena arena : arenas.values()) {
+            if (arena.getEventManager().isEventActive()) {
+                arena.getEventManager().onPlayerRespawn(event);
+                return;
+            }
+        }
+    }
+
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Arena arena = participantArenas.get(event.getPlayer().getUniqueId());
+        if (arena != null) {
+            arena.getEventManager().onPlayerJoin(event);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Arena arena = participantArenas.get(event.getPlayer().getUniqueId());
+        if (arena != null) {
+            arena.getEventManager().onPlayerQuit(event);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.foxy.deadOrAlive.arena;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.util.PaperSupport;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ChunkTicketManager {
+
+    private final DeadOrAlive plugin;
+    private final Map<ChunkKey, Integer> holders = new HashMap<>();
+    private final Set<ChunkKey> ticketed = new LinkedHashSet<>();
+
+    public ChunkTicketManager(DeadOrAlive plugin) {
+        this.plugin = plugin;
+    }
+
+    public synchronized Hold warm(String owner, Collection<ChunkKey> chunks) {
+        Hold hold = new Hold(owner, new LinkedHashSet<>(chunks));
+        if (hold.chunks.isEmpty()) {
+            return hold;
+        }
+
+        hold.pending = hold.chunks.size();
+        for (ChunkKey chunk : hold.chunks) {
+            holders.merge(chunk, 1, Integer::sum);
+        }
+        for (ChunkKey chunk : hold.chunks) {
+            PaperSupport.getChunkAtAsync(chunk.world(), chunk.chunkX(), chunk.chunkZ())
+                    .whenComplete((loaded, throwable) -> {
+                        if (plugin.isEnabled()) {
+                            plugin.getTaskScheduler().runAtChunk(chunk.world(), chunk.chunkX(), chunk.chunkZ(),
+                                    () -> onChunkLoaded(hold, chunk, throwable));
+                        }
+                    });
+        }
+        return hold;
+    }
+
+    public synchronized void release(Hold hold) {
+        if (hold == null || hold.released) {
+            return;
+        }
+        hold.released = true;
+
+        for (ChunkKey chunk : hold.chunks) {
+            Integer count = holders.get(chunk);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                holders.put(chunk, count - 1);
+                continue;
+            }
+            holders.remove(chunk);
+            if (ticketed.remove(chunk)) {
+                removeTicket(chunk);
+            }
+        }
+    }
+
+    public synchronized int getTicketCount() {
+        return ticketed.size();
+    }
+
+    private void removeTicket(ChunkKey chunk) {
+        if (!plugin.isEnabled()) {
+            chunk.world().removePluginChunkTicket(chunk.chunkX(), chunk.chunkZ(), plugin);
+            return;
+        }
+        plugin.getTaskScheduler().runAtChunk(chunk.world(), chunk.chunkX(), chunk.chunkZ(), () -> {
+            synchronized (this) {
+                if (!ticketed.contains(chunk)) {
+                    chunk.world().removePluginChunkTicket(chunk.chunkX(), chunk.chunkZ(), plugin);
+                }
+            }
+        });
+    }
+
+    private synchronized void onChunkLoaded(Hold hold, ChunkKey chunk, Throwable throwable) {
+        if (throwable != null) {
+            plugin.getLogger().warning("Could not load chunk " + chunk.chunkX() + ", " + chunk.chunkZ()
+                    + " in world " + chunk.world().getName() + ": " + throwable.getMessage());
+        } else if (holders.containsKey(chunk) && ticketed.add(chunk)) {
+            chunk.world().addPluginChunkTicket(chunk.chunkX(), chunk.chunkZ(), plugin);
+        }
+
+        hold.pending--;
+        if (hold.pending == 0 && !hold.released) {
+            long elapsedMillis = (System.nanoTime() - hold.startedAt) / 1_000_000L;
+            plugin.getLogger().info("Arena " + hold.owner + ": warmed " + hold.chunks.size() + " chunks in "
+                    + elapsedMillis + " ms (" + ticketed.size() + " chunks held by the plugin).");
+        }
+    }
+
+    public static ChunkKey chunkAt(World world, int blockX, int blockZ) {
+        return new ChunkKey(world, blockX >> 4, blockZ >> 4);
+    }
+
+    public record ChunkKey(World world, int chunkX, int chunkZ) {
+    }
+
+    public static class Hold {
+        private final String owner;
+        private final Set<ChunkKey> chunks;
+        private final long startedAt = System.nanoTime();
+        private int pending;
+        private boolean released;
+
+        private Hold(String owner, Set<ChunkKey> chunks) {
+            this.owner = owner;
+            this.chunks = chunks;
+        }
+
+        public int getChunkCount() {
+            return chunks.size();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.foxy.deadOrAlive.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+public record FileStamp(long size, long modified, byte[] hash) {
+
+    public static FileStamp of(byte[] contents, long modified) {
+        return new FileStamp(contents.length, modified, sha256(contents));
+    }
+
+    public FileStamp check(File file) throws IOException {
+        if (!file.isFile() || file.length() != size) {
+            return null;
+        }
+        long current = file.lastModified();
+        if (current == modified) {
+            return this;
+        }
+        return Arrays.equals(sha256(Files.readAllBytes(file.toPath())), hash) ? new FileStamp(size, current, hash) : null;
+    }
+
+    static byte[] sha256(byte[] contents) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(contents);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.foxy.deadOrAlive.cache;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.message.MessageManager;
+import com.foxy.deadOrAlive.message.MessageManager.MessagePack;
+import com.foxy.deadOrAlive.message.MessageTemplate;
+import com.foxy.deadOrAlive.room.RoomManager.RoomData;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.util.Vector;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LayoutCache {
+
+    private static final int MAGIC = 0x444F414C;
+    private static final int VERSION = 1;
+    private static final byte ROOMS = 1;
+    private static final byte TELEPORTS = 2;
+    private static final byte MESSAGES = 3;
+
+    private final DeadOrAlive plugin;
+    private final Path dataFolder;
+    private final Path cacheFile;
+    private final AtomicLong generations = new AtomicLong();
+    private Map<String, Section> sections = new HashMap<>();
+    private boolean stale;
+    private long written;
+
+    public LayoutCache(DeadOrAlive plugin) {
+        this.plugin = plugin;
+        this.dataFolder = plugin.getDataFolder().toPath().toAbsolutePath();
+        this.cacheFile = dataFolder.resolve("cache").resolve("layout.bin");
+    }
+
+    public boolean isEnabled() {
+        return plugin.getConfig().getBoolean("cache.layout", true);
+    }
+
+    public void open() {
+        sections = new HashMap<>();
+        stale = true;
+        if (!isEnabled() || !Files.isRegularFile(cacheFile)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                byte kind = buffer.get();
+                String label = readString(buffer);
+                long size = buffer.getLong();
+                long modified = buffer.getLong();
+                byte[] hash = new byte[32];
+                buffer.get(hash);
+                int length = buffer.getInt();
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                sections.put(label, new Section(kind, new FileStamp(size, modified, hash), payload));
+            }
+            stale = false;
+        } catch (IOException | RuntimeException exception) {
+            sections = new HashMap<>();
+            plugin.getLogger().warning("Ignoring unreadable layout cache, loading from YAML: " + exception.getMessage());
+        }
+    }
+
+    public Cached<Map<String, RoomData>> getRooms(File file) {
+        Section section = section(file, ROOMS);
+        if (section == null) {
+            return null;
+        }
+
+        ByteBuffer payload = section.payload().duplicate();
+        int count = payload.getInt();
+        Map<String, RoomData> rooms = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String id = readString(payload);
+            String type = readString(payload);
+            Vector center = payload.get() == 1
+                    ? new Vector(payload.getDouble(), payload.getDouble(), payload.getDouble())
+                    : null;
+            rooms.put(id, new RoomData(type, center));
+        }
+        return new Cached<>(rooms, section.stamp());
+    }
+
+    public Cached<Map<String, Map<String, TeleportPoint>>> getTeleports(Arena arena, File file) {
+        Section section = section(file, TELEPORTS);
+        if (section == null) {
+            return null;
+        }
+
+        ByteBuffer payload = section.payload().duplicate();
+        int count = payload.getInt();
+        Map<String, Map<String, TeleportPoint>> teleports = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            TeleportPoint point = new TeleportPoint(arena, readString(payload), readString(payload), readString(payload),
+                    readString(payload), payload.getInt(), payload.getInt(), payload.getInt());
+            teleports.computeIfAbsent(point.getOriginRoom(), origin -> new HashMap<>()).put(point.getTeleportKey(), point);
+        }
+        return new Cached<>(teleports, section.stamp());
+    }
+
+    public MessagePack getMessages(File file) {
+        Section section = section(file, MESSAGES);
+        if (section == null) {
+            return null;
+        }
+
+        ByteBuffer payload = section.payload().duplicate();
+        String prefix = readString(payload);
+        int count = payload.getInt();
+        Map<String, String> raw = new HashMap<>(count * 2);
+        Map<String, MessageTemplate> templates = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            String path = readString(payload);
+            raw.put(path, readString(payload));
+            templates.put(path, MessageTemplate.compile(readString(payload)));
+        }
+        return MessageManager.restore(file, raw, templates, prefix, section.stamp());
+    }
+
+    public void close() {
+        sections = new HashMap<>();
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        List<Source> sources = new ArrayList<>();
+        MessagePack pack = plugin.getMessageManager().getPack();
+        if (pack != null) {
+            sources.add(new Source(MESSAGES, pack.getFile(), pack.getFileStamp(), null, null, pack));
+        }
+        for (Arena arena : plugin.getArenaManager().getArenas()) {
+            sources.add(new Source(ROOMS, arena.getRoomManager().getFile(), arena.getRoomManager().getFileStamp(),
+                    arena.getRoomManager().getRoomData(), null, null));
+            sources.add(new Source(TELEPORTS, arena.getTeleportManager().getFile(),
+                    arena.getTeleportManager().getFileStamp(), null, arena.getTeleportManager().getTeleports(), null));
+        }
+
+        long generation = generations.incrementAndGet();
+        plugin.getTaskScheduler().runAsync(() -> write(generation, sources));
+    }
+
+    private synchronized void write(long generation, List<Source> sources) {
+        if (generation < written) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        Path temporary = cacheFile.resolveSibling("layout.bin.tmp");
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            int count = 0;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(body);
+            for (Source source : sources) {
+                if (writeSection(out, source)) {
+                    count++;
+                }
+            }
+            out.flush();
+
+            try (DataOutputStream file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                file.writeInt(MAGIC);
+                file.writeInt(VERSION);
+                file.writeInt(count);
+                body.writeTo(file);
+            }
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            written = generation;
+            plugin.getLogger().info("Rebuilt the layout cache (" + count + " files) in "
+                    + (System.nanoTime() - started) / 1_000_000L + " ms.");
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Could not write the layout cache: " + exception.getMessage());
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException ignored) {
+                // Nothing else to clean up, the next rebuild overwrites it.
+            }
+        }
+    }
+
+    private boolean writeSection(DataOutputStream out, Source source) throws IOException {
+        FileStamp stamp = source.stamp();
+        if (source.file() == null || stamp == null) {
+            return false;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(bytes);
+        switch (source.kind()) {
+            case ROOMS -> writeRooms(payload, source.rooms());
+            case TELEPORTS -> writeTeleports(payload, source.teleports());
+            default -> writeMessages(payload, source.messages());
+        }
+        payload.flush();
+
+        out.writeByte(source.kind());
+        writeString(out, label(source.file()));
+        out.writeLong(stamp.size());
+        out.writeLong(stamp.modified());
+        out.write(stamp.hash());
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+        return true;
+    }
+
+    private static void writeRooms(DataOutputStream out, Map<String, RoomData> rooms) throws IOException {
+        out.writeInt(rooms.size());
+        for (Map.Entry<String, RoomData> entry : rooms.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue().getType().name());
+            Vector center = entry.getValue().getCenter();
+            out.writeByte(center == null ? 0 : 1);
+            if (center != null) {
+                out.writeDouble(center.getX());
+                out.writeDouble(center.getY());
+                out.writeDouble(center.getZ());
+            }
+        }
+    }
+
+    private static void writeTeleports(DataOutputStream out, Map<String, Map<String, TeleportPoint>> teleports)
+            throws IOException {
+        int count = 0;
+        for (Map<String, TeleportPoint> points : teleports.values()) {
+            count += points.size();
+        }
+        out.writeInt(count);
+        for (Map<String, TeleportPoint> points : teleports.values()) {
+            for (TeleportPoint point : points.values()) {
+                writeString(out, point.getOriginRoom());
+                writeString(out, point.getTeleportKey());
+                writeString(out, point.getDestinationRoom());
+                writeString(out, point.getWorldName());
+                out.writeInt(point.getX());
+                out.writeInt(point.getY());
+                out.writeInt(point.getZ());
+            }
+        }
+    }
+
+    private static void writeMessages(DataOutputStream out, MessagePack pack) throws IOException {
+        writeString(out, pack.getPrefix());
+        Map<String, MessageTemplate> templates = pack.getTemplates();
+        out.writeInt(templates.size());
+        for (Map.Entry<String, MessageTemplate> entry : templates.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, pack.getRaw(entry.getKey()));
+            writeString(out, entry.getValue().getText());
+        }
+    }
+
+    private Section section(File file, byte kind) {
+        Section section = sections.get(label(file));
+        if (section == null || section.kind() != kind) {
+            stale = true;
+            return null;
+        }
+
+        FileStamp current;
+        try {
+            current = section.stamp().check(file);
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Could not hash " + file.getName() + ": " + exception.getMessage());
+            current = null;
+        }
+        if (current == null) {
+            stale = true;
+            return null;
+        }
+        if (current != section.stamp()) {
+            stale = true;
+            return new Section(kind, current, section.payload());
+        }
+        return section;
+    }
+
+    private String label(File file) {
+        return dataFolder.relativize(file.toPath().toAbsolutePath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record Cached<T>(T value, FileStamp stamp) {
+    }
+
+    private record Section(byte kind, FileStamp stamp, ByteBuffer payload) {
+    }
+
+    private record Source(byte kind, File file, FileStamp stamp, Map<String, RoomData> rooms,
+                          Map<String, Map<String, TeleportPoint>> teleports, MessagePack messages) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.foxy.deadOrAlive.cache;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public record StampedConfiguration(YamlConfiguration configuration, FileStamp stamp) {
+
+    public static StampedConfiguration load(File file) throws IOException, InvalidConfigurationException {
+        YamlConfiguration configuration = new YamlConfiguration();
+        if (!file.exists()) {
+            return new StampedConfiguration(configuration, null);
+        }
+
+        long modified = file.lastModified();
+        byte[] contents = Files.readAllBytes(file.toPath());
+        configuration.loadFromString(new String(contents, StandardCharsets.UTF_8));
+        return new StampedConfiguration(configuration, FileStamp.of(contents, modified));
+    }
+
+    public static StampedConfiguration loadOrEmpty(File file, Logger logger) {
+        try {
+            return load(file);
+        } catch (IOException | InvalidConfigurationException exception) {
+            logger.log(Level.SEVERE, "Cannot load " + file, exception);
+            return new StampedConfiguration(new YamlConfiguration(), null);
+        }
+    }
+}
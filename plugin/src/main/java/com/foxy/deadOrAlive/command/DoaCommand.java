@@ -0,0 +1,376 @@
+package com.foxy.deadOrAlive.command;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.arena.ArenaManager;
+import com.foxy.deadOrAlive.event.EventManager;
+import com.foxy.deadOrAlive.profile.Profiler;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+import org.bukkit.entity.Player;
+import org.bukkit.util.StringUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class DoaCommand implements CommandExecutor, TabCompleter {
+
+    private final DeadOrAlive plugin;
+
+    public DoaCommand(DeadOrAlive plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission("deadoralive.use")) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+            return true;
+        }
+
+        if (args.length == 0) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("usage"));
+            return true;
+        }
+
+        if (args[0].equalsIgnoreCase("profile")) {
+            if (!sender.hasPermission("deadoralive.profile")) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                return true;
+            }
+
+            handleProfile(sender, args.length == 2 ? args[1] : null);
+            return true;
+        }
+
+        if (args[0].equalsIgnoreCase("arena")) {
+            if (!sender.hasPermission("deadoralive.arena")) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                return true;
+            }
+
+            if (args.length != 3 || !args[1].equalsIgnoreCase("create") || plugin.getArenaManager() == null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("arena-usage"));
+                return true;
+            }
+
+            createArena(sender, args[2]);
+            return true;
+        }
+
+        if (args.length <= 2) {
+            String subCommand = args[0];
+            String arenaName = args.length > 1 ? args[1] : null;
+
+            if (arenaName != null && (subCommand.equalsIgnoreCase("reload") || subCommand.equalsIgnoreCase("setlobby"))) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("usage"));
+                return true;
+            }
+
+            if (subCommand.equalsIgnoreCase("reload")) {
+                if (!sender.hasPermission("deadoralive.reload")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                plugin.getReloadManager().reload(sender);
+                return true;
+            }
+
+            if (subCommand.equalsIgnoreCase("setlobby")) {
+                if (!sender.hasPermission("deadoralive.setlobby")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("not-player"));
+                    return true;
+                }
+
+                if (plugin.getRoomSetupManager().hasActiveSessions()) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setlobby-blocked-by-rooms"));
+                    return true;
+                }
+
+                if (plugin.getTeleportSetupManager().hasActiveSessions()) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setlobby-blocked-by-teleports"));
+                    return true;
+                }
+
+                plugin.getLobbySelectionManager().startSelection(player);
+                return true;
+            }
+
+            if (subCommand.equalsIgnoreCase("setrooms")) {
+                if (!sender.hasPermission("deadoralive.setrooms")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("not-player"));
+                    return true;
+                }
+
+                if (plugin.getLobbySelectionManager().isSelecting(player.getUniqueId())) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setrooms-blocked-by-lobby"));
+                    return true;
+                }
+
+                if (plugin.getTeleportSetupManager().hasActiveSessions()) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setrooms-blocked-by-teleports"));
+                    return true;
+                }
+
+                Arena arena = resolveArena(sender, arenaName);
+                if (arena == null) {
+                    return true;
+                }
+
+                plugin.getRoomSetupManager().startSession(player, arena);
+                return true;
+            }
+
+            if (subCommand.equalsIgnoreCase("setteleports")) {
+                if (!sender.hasPermission("deadoralive.setteleports")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                if (!(sender instanceof Player player)) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("not-player"));
+                    return true;
+                }
+
+                if (plugin.getLobbySelectionManager().isSelecting(player.getUniqueId())) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setteleports-blocked-by-lobby"));
+                    return true;
+                }
+
+                if (plugin.getRoomSetupManager().hasActiveSessions()) {
+                    player.sendMessage(plugin.getMessageManager().getMessage("setteleports-blocked-by-rooms"));
+                    return true;
+                }
+
+                Arena arena = resolveArena(sender, arenaName);
+                if (arena == null) {
+                    return true;
+                }
+
+                plugin.getTeleportSetupManager().startSession(player, arena);
+                return true;
+            }
+            if (subCommand.equalsIgnoreCase("start")) {
+                if (!sender.hasPermission("deadoralive.start")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                if (plugin.getArenaManager() == null) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("event-start-unavailable"));
+                    return true;
+                }
+
+                Arena arena = resolveArena(sender, arenaName);
+                if (arena == null) {
+                    return true;
+                }
+
+                if (!arena.getRoomManager().areAllRoomsConfigured()) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("event-start-rooms-not-configured"));
+                    return true;
+                }
+
+                if (!arena.getTeleportManager().hasConfiguredTeleports()) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("event-start-teleports-not-configured"));
+                    return true;
+                }
+
+                plugin.getTaskScheduler().runGlobal(() -> arena.getEventManager().startEvent(sender));
+                return true;
+            }
+
+            if (subCommand.equalsIgnoreCase("resume")) {
+                if (!sender.hasPermission("deadoralive.resume")) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("no-permission"));
+                    return true;
+                }
+
+                if (plugin.getArenaManager() == null) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("event-start-unavailable"));
+                    return true;
+                }
+
+                Arena arena = resolveArena(sender, arenaName);
+                if (arena == null) {
+                    return true;
+                }
+
+                EventManager eventManager = arena.getEventManager();
+                if (!eventManager.isEventActive() && !eventManager.canResume()) {
+                    sender.sendMessage(plugin.getMessageManager().getMessage("event-resume-unavailable"));
+                    return true;
+                }
+
+                plugin.getTaskScheduler().runGlobal(() -> eventManager.resumeEvent(sender));
+                return true;
+            }
+            return true;
+        }
+
+        sender.sendMessage(plugin.getMessageManager().getMessage("usage"));
+        return true;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length == 1) {
+            List<String> completions = new ArrayList<>();
+            List<String> subCommands = new ArrayList<>();
+            if (sender.hasPermission("deadoralive.reload")) {
+                subCommands.add("reload");
+            }
+            if (sender.hasPermission("deadoralive.setlobby")) {
+                subCommands.add("setlobby");
+            }
+            if (sender.hasPermission("deadoralive.setrooms")) {
+                subCommands.add("setrooms");
+            }
+            if (sender.hasPermission("deadoralive.setteleports")) {
+                subCommands.add("setteleports");
+            }
+            if (sender.hasPermission("deadoralive.start")) {
+                subCommands.add("start");
+            }
+            if (sender.hasPermission("deadoralive.resume")) {
+                subCommands.add("resume");
+            }
+            if (sender.hasPermission("deadoralive.profile")) {
+                subCommands.add("profile");
+            }
+            if (sender.hasPermission("deadoralive.arena")) {
+                subCommands.add("arena");
+            }
+            StringUtil.copyPartialMatches(args[0], subCommands, completions);
+            Collections.sort(completions);
+            return completions;
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("profile")) {
+            if (!sender.hasPermission("deadoralive.profile")) {
+                return Collections.emptyList();
+            }
+            List<String> completions = new ArrayList<>();
+            StringUtil.copyPartialMatches(args[1], List.of("start", "stop", "dump"), completions);
+            return completions;
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("arena")) {
+            if (!sender.hasPermission("deadoralive.arena")) {
+                return Collections.emptyList();
+            }
+            List<String> completions = new ArrayList<>();
+            StringUtil.copyPartialMatches(args[1], List.of("create"), completions);
+            return completions;
+        }
+        if (args.length == 2 && plugin.getArenaManager() != null) {
+            String subCommand = args[0].toLowerCase(Locale.ROOT);
+            if (!List.of("setrooms", "setteleports", "start", "resume").contains(subCommand)
+                    || !sender.hasPermission("deadoralive." + subCommand)) {
+                return Collections.emptyList();
+            }
+            List<String> arenaNames = new ArrayList<>();
+            for (Arena arena : plugin.getArenaManager().getArenas()) {
+                arenaNames.add(arena.getName());
+            }
+            List<String> completions = new ArrayList<>();
+            StringUtil.copyPartialMatches(args[1], arenaNames, completions);
+            Collections.sort(completions);
+            return completions;
+        }
+        return Collections.emptyList();
+    }
+
+    private void handleProfile(CommandSender sender, String action) {
+        Profiler profiler = plugin.getProfiler();
+        if (action == null) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("profile-usage"));
+            return;
+        }
+
+        switch (action.toLowerCase(Locale.ROOT)) {
+            case "start" -> sender.sendMessage(plugin.getMessageManager().getMessage(
+                    profiler.start() ? "profile-started" : "profile-already-running"));
+            case "stop" -> sender.sendMessage(plugin.getMessageManager().getMessage(
+                    profiler.stop() ? "profile-stopped" : "profile-not-running"));
+            case "dump" -> dumpProfile(sender, profiler);
+            default -> sender.sendMessage(plugin.getMessageManager().getMessage("profile-usage"));
+        }
+    }
+
+    private void dumpProfile(CommandSender sender, Profiler profiler) {
+        List<Profiler.Summary> summaries = profiler.summarize();
+        if (summaries.isEmpty()) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-empty"));
+            return;
+        }
+
+        sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-header"));
+        for (Profiler.Summary summary : summaries) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-line",
+                    "%probe%", summary.getProbe().getDisplayName(),
+                    "%count%", String.valueOf(summary.getCount()),
+                    "%p50%", formatMicros(summary.getP50()),
+                    "%p99%", formatMicros(summary.getP99()),
+                    "%max%", formatMicros(summary.getMax())));
+        }
+        for (Arena arena : plugin.getArenaManager().getArenas()) {
+            long avoided = arena.getEventManager().getBossBarPacketsAvoided();
+            if (avoided > 0) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-bossbar",
+                        "%arena%", arena.getName(), "%packets%", String.valueOf(avoided)));
+            }
+        }
+
+        try {
+            File file = profiler.writeCsv(summaries);
+            sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-saved", "%file%", file.getName()));
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Failed to write profile: " + exception.getMessage());
+            sender.sendMessage(plugin.getMessageManager().getMessage("profile-dump-failed"));
+        }
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", Profiler.toMicros(nanos));
+    }
+
+    private void createArena(CommandSender sender, String arenaName) {
+        ArenaManager arenaManager = plugin.getArenaManager();
+        if (!ArenaManager.isValidName(arenaName.toLowerCase(Locale.ROOT))) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("arena-invalid-name", "%arena%", arenaName));
+            return;
+        }
+
+        Arena arena = arenaManager.createArena(arenaName);
+        if (arena == null) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("arena-exists", "%arena%", arenaName));
+            return;
+        }
+
+        sender.sendMessage(plugin.getMessageManager().getMessage("arena-created", "%arena%", arena.getName()));
+    }
+
+    private Arena resolveArena(CommandSender sender, String arenaName) {
+        Arena arena = plugin.getArenaManager().getArena(arenaName);
+        if (arena == null) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("arena-unknown", "%arena%", arenaName));
+        }
+        return arena;
+    }
+}
\ No newline at end of file
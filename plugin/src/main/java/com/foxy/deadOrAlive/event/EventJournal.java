@@ -0,0 +1,243 @@
+package com.foxy.deadOrAlive.event;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public class EventJournal {
+
+    private static final int MAGIC = 0x444F414A;
+    private static final int VERSION = 1;
+
+    private static final byte RECORD_JOIN = 1;
+    private static final byte RECORD_MOVE = 2;
+    private static final byte RECORD_REMOVE = 3;
+    private static final byte RECORD_HEARTS = 4;
+    private static final byte RECORD_STAGE = 5;
+    private static final byte RECORD_TIME = 6;
+
+    private final File file;
+    private DataOutputStream output;
+
+    public EventJournal(File file) {
+        this.file = file;
+    }
+
+    public boolean exists() {
+        return file.exists() && file.length() > 0;
+    }
+
+    public void open() throws IOException {
+        close();
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, false)));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+    }
+
+    public void join(UUID uuid, String name, String roomId) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_JOIN);
+        writeUuid(uuid);
+        output.writeUTF(name == null ? uuid.toString() : name);
+        output.writeUTF(roomId);
+    }
+
+    public void move(UUID uuid, String roomId) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_MOVE);
+        writeUuid(uuid);
+        output.writeUTF(roomId);
+    }
+
+    public void remove(UUID uuid) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_REMOVE);
+        writeUuid(uuid);
+    }
+
+    public void hearts(UUID uuid, double heartsLost) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_HEARTS);
+        writeUuid(uuid);
+        output.writeDouble(heartsLost);
+    }
+
+    public void stage(int stageIndex, String roomId) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_STAGE);
+        output.writeInt(stageIndex);
+        output.writeUTF(roomId);
+    }
+
+    public void time(int remainingSeconds, int stageDurationSeconds) throws IOException {
+        if (output == null) {
+            return;
+        }
+        output.writeByte(RECORD_TIME);
+        output.writeInt(remainingSeconds);
+        output.writeInt(stageDurationSeconds);
+    }
+
+    public void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    public void close() throws IOException {
+        if (output != null) {
+            try {
+                output.close();
+            } finally {
+                output = null;
+            }
+        }
+    }
+
+    public void delete() throws IOException {
+        close();
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Could not delete " + file.getName());
+        }
+    }
+
+    public Snapshot read() throws IOException {
+        Snapshot snapshot = new Snapshot();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Unknown journal format");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported journal version " + version);
+            }
+
+            try {
+                while (true) {
+                    byte type = input.readByte();
+                    switch (type) {
+                        case RECORD_JOIN -> {
+                            UUID uuid = readUuid(input);
+                            snapshot.names.put(uuid, input.readUTF());
+                            snapshot.rooms.put(uuid, input.readUTF());
+                        }
+                        case RECORD_MOVE -> {
+                            UUID uuid = readUuid(input);
+                            String roomId = input.readUTF();
+                            if (snapshot.rooms.containsKey(uuid)) {
+                                snapshot.rooms.put(uuid, roomId);
+                            }
+                        }
+                        case RECORD_REMOVE -> {
+                            UUID uuid = readUuid(input);
+                            snapshot.rooms.remove(uuid);
+                            snapshot.names.remove(uuid);
+                            snapshot.heartsLost.remove(uuid);
+                        }
+                        case RECORD_HEARTS -> {
+                            UUID uuid = readUuid(input);
+                            double heartsLost = input.readDouble();
+                            if (snapshot.rooms.containsKey(uuid)) {
+                                snapshot.heartsLost.put(uuid, heartsLost);
+                            }
+                        }
+                        case RECORD_STAGE -> {
+                            snapshot.stageIndex = input.readInt();
+                            snapshot.stageRoom = input.readUTF();
+                        }
+                        case RECORD_TIME -> {
+                            snapshot.remainingSeconds = input.readInt();
+                            snapshot.stageDurationSeconds = input.readInt();
+                        }
+                        default -> throw new IOException("Corrupted journal record type " + type);
+                    }
+                    snapshot.records++;
+                }
+            } catch (EOFException ignored) {
+                // A crash can leave a partially written record at the tail; everything before it is kept.
+            }
+        }
+        return snapshot;
+    }
+
+    private void writeUuid(UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    public static class Snapshot {
+        private final Map<UUID, String> rooms = new LinkedHashMap<>();
+        private final Map<UUID, String> names = new HashMap<>();
+        private final Map<UUID, Double> heartsLost = new HashMap<>();
+        private int stageIndex;
+        private String stageRoom;
+        private int remainingSeconds = -1;
+        private int stageDurationSeconds = -1;
+        private int records;
+
+        public Collection<UUID> getParticipants() {
+            return rooms.keySet();
+        }
+
+        public String getRoom(UUID uuid) {
+            return rooms.get(uuid);
+        }
+
+        public String getName(UUID uuid) {
+            return names.get(uuid);
+        }
+
+        public double getHeartsLost(UUID uuid) {
+            return heartsLost.getOrDefault(uuid, 0.0D);
+        }
+
+        public int getStageIndex() {
+            return stageIndex;
+        }
+
+        public String getStageRoom() {
+            return stageRoom;
+        }
+
+        public int getRemainingSeconds() {
+            return remainingSeconds;
+        }
+
+        public int getStageDurationSeconds() {
+            return stageDurationSeconds;
+        }
+
+        public int getRecords() {
+            return records;
+        }
+
+        public boolean isResumable() {
+            return stageRoom != null && !rooms.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,1125 @@
+package com.foxy.deadOrAlive.event;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.arena.ChunkTicketManager;
+import com.foxy.deadOrAlive.game.GameEngine;
+import com.foxy.deadOrAlive.game.GameListener;
+import com.foxy.deadOrAlive.game.GameSettings;
+import com.foxy.deadOrAlive.game.Participant;
+import com.foxy.deadOrAlive.lobby.LobbyManager;
+import com.foxy.deadOrAlive.profile.Probe;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.teleport.TeleportManager.PadRoute;
+import com.foxy.deadOrAlive.room.RoomType;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import com.foxy.deadOrAlive.teleport.TeleportPipeline;
+import com.foxy.deadOrAlive.util.TaskScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.GameRule;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BarStyle;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.util.Vector;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EventManager implements GameListener {
+
+    private static final PotionEffect[] SLOWNESS_TIERS = createSlownessTiers(32);
+
+    private final DeadOrAlive plugin;
+    private final TaskScheduler scheduler;
+    private final LobbyManager lobbyManager;
+    private final Arena arena;
+    private final PlayersFileWriter playersWriter;
+    private final EventJournal journal;
+    private final GameEngine engine;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private EventRecorder recorder;
+    private volatile EventJournal.Snapshot resumeSnapshot;
+    private final Map<UUID, Long> outsiderWarningCooldowns = new HashMap<>();
+    private final Map<UUID, Location> disconnectLocations = new HashMap<>();
+    private final Set<UUID> preEventNotified = ConcurrentHashMap.newKeySet();
+
+    private BossBar bossBar;
+    private final Set<UUID> bossBarAudience = new HashSet<>();
+    private volatile long bossBarPacketsAvoided;
+    private final LongAdder slownessUpdatesSkipped = new LongAdder();
+    private TaskScheduler.Task timerDriver;
+    private Player[] damageTargets = new Player[16];
+    private int damageTargetCount;
+    private boolean damageTargetsDirty = true;
+
+    private ChunkTicketManager.Hold chunkHold;
+    private Set<World> chunkWorlds = Collections.emptySet();
+    private int eventGeneration;
+
+    public EventManager(DeadOrAlive plugin, LobbyManager lobbyManager, Arena arena) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getTaskScheduler();
+        this.lobbyManager = lobbyManager;
+        this.arena = arena;
+        File temporalFolder = arena.getTemporalFolder();
+        if (!temporalFolder.exists() && !temporalFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create temporal folder for event files.");
+        }
+        this.journal = new EventJournal(new File(temporalFolder, "event.journal"));
+        this.playersWriter = new PlayersFileWriter(plugin, new File(temporalFolder, "players.yml"), journal);
+        this.engine = new GameEngine(GameSettings.DEFAULTS, new SplittableRandom(), this);
+        reloadSettings();
+        loadResumeSnapshot();
+    }
+
+    private void loadResumeSnapshot() {
+        if (!journal.exists()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            EventJournal.Snapshot snapshot = journal.read();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+            if (!snapshot.isResumable()) {
+                return;
+            }
+            resumeSnapshot = snapshot;
+            plugin.getLogger().info("Found an interrupted event in arena '" + arena.getName() + "' with " + snapshot.getParticipants().size()
+                    + " participants (" + snapshot.getRecords() + " journal records replayed in " + elapsedMillis
+                    + " ms). Use /doa resume" + (arena.isDefault() ? "" : " " + arena.getName()) + " to continue it.");
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Could not read event journal: " + exception.getMessage());
+        }
+    }
+
+    public void reloadSettings() {
+        engine.setSettings(new GameSettings(
+                plugin.getConfig().getInt("event.initial-time", 120),
+                plugin.getConfig().getInt("event.time-decrement", 10),
+                plugin.getConfig().getInt("event.damage-interval", 1),
+                plugin.getConfig().getInt("event.damage-hearts", 1),
+                plugin.getConfig().getInt("event.start-delay", 3),
+                plugin.getConfig().getInt("event.death-delay", 2)));
+    }
+
+    public boolean startEvent(org.bukkit.command.CommandSender sender) {
+        if (engine.isActive()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-already-running"));
+            }
+            return false;
+        }
+
+        if (!arena.getRoomManager().areAllRoomsConfigured()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-rooms-not-configured"));
+            }
+            return false;
+        }
+
+        if (!arena.getTeleportManager().hasConfiguredTeleports()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-teleports-not-configured"));
+            }
+            return false;
+        }
+
+        List<Player> players = collectAvailablePlayers();
+        if (players.isEmpty()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-no-players"));
+            }
+            return false;
+        }
+
+        Vector roomVector = arena.getRoomManager().getRoom("room_1");
+        if (roomVector == null) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-missing-room"));
+            }
+            return false;
+        }
+
+        RoomGraph rooms = arena.getRoomManager().getGraph();
+        startTimerDriver();
+        resumeSnapshot = null;
+        resetEventState(rooms);
+        engine.start(rooms, rooms.indexOf("room_1"));
+        int stageRoom = engine.getStageRoom();
+        long seed = reseed();
+        if (plugin.getConfig().getBoolean("event.record", false)) {
+            recorder = new EventRecorder(plugin, new File(plugin.getDataFolder(), "recordings"), arena.getName(), seed,
+                    engine.getSettings(), describeLayout(rooms), rooms.getId(stageRoom), engine.getCurrentTick());
+        }
+        playersWriter.stage(engine.getStageIndex(), rooms.getId(stageRoom));
+
+        Set<World> affectedWorlds = new HashSet<>();
+        List<TeleportPipeline.Request> teleports = new ArrayList<>(players.size());
+        for (Player player : players) {
+            Vector vector = roomVector;
+            Location location = new Location(player.getWorld(), vector.getX(), vector.getY(), vector.getZ());
+            teleports.add(new TeleportPipeline.Request(player, location));
+            scheduler.runForEntity(player, () -> player.setGameMode(GameMode.ADVENTURE));
+            affectedWorlds.add(player.getWorld());
+            addParticipant(player, stageRoom);
+        }
+
+        for (World world : affectedWorlds) {
+            world.setGameRule(GameRule.NATURAL_REGENERATION, false);
+        }
+        warmChunks(affectedWorlds);
+
+        savePlayersFile();
+
+        int generation = ++eventGeneration;
+        plugin.getTeleportPipeline().submit(teleports, () -> {
+            if (engine.isActive() && generation == eventGeneration) {
+                announceStart();
+            }
+        });
+
+        if (sender != null) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("event-start-success"));
+        }
+        return true;
+    }
+
+    private void announceStart() {
+        String title = plugin.getMessageManager().getMessage("event-start-title");
+        String subtitle = plugin.getMessageManager().getMessage("event-start-subtitle");
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Player player = plugin.getServer().getPlayer(engine.getParticipant(i).getUuid());
+            if (player != null) {
+                player.sendTitle(title, subtitle, 10, 100, 10);
+            }
+        }
+
+        if (recorder != null) {
+            record("intro");
+        }
+        engine.beginIntro();
+    }
+
+    private long reseed() {
+        long seed = seeds.nextLong();
+        engine.setRandom(new SplittableRandom(seed));
+        plugin.getLogger().info("Event in arena '" + arena.getName() + "' is using random seed " + seed + ".");
+        return seed;
+    }
+
+    private String describeLayout(RoomGraph rooms) {
+        StringBuilder layout = new StringBuilder();
+        Map<String, Map<String, TeleportPoint>> teleports = arena.getTeleportManager().getTeleports();
+        for (String roomId : rooms.getIds()) {
+            if (layout.length() > 0) {
+                layout.append(';');
+            }
+            layout.append(roomId).append(':').append(rooms.getType(rooms.indexOf(roomId)).name().toLowerCase(Locale.ROOT));
+            Map<String, TeleportPoint> pads = teleports.get(roomId);
+            if (pads == null || pads.isEmpty()) {
+                continue;
+            }
+            List<String> destinations = new ArrayList<>();
+            for (TeleportPoint point : pads.values()) {
+                destinations.add(point.getDestinationRoom().toLowerCase(Locale.ROOT));
+            }
+            layout.append('>').append(String.join(",", destinations));
+        }
+        return layout.toString();
+    }
+
+    private void record(String type, Object... values) {
+        if (recorder != null) {
+            recorder.record(engine.getCurrentTick(), type, values);
+        }
+    }
+
+    private void warmChunks(Set<World> worlds) {
+        List<ChunkTicketManager.ChunkKey> chunks = new ArrayList<>();
+        for (World world : worlds) {
+            for (Vector center : arena.getRoomManager().getRooms().values()) {
+                chunks.add(ChunkTicketManager.chunkAt(world, center.getBlockX(), center.getBlockZ()));
+            }
+        }
+        for (Map<String, TeleportPoint> roomTeleports : arena.getTeleportManager().getTeleports().values()) {
+            for (TeleportPoint point : roomTeleports.values()) {
+                World world = plugin.getServer().getWorld(point.getWorldName());
+                if (world != null) {
+                    chunks.add(ChunkTicketManager.chunkAt(world, point.getX(), point.getZ()));
+                }
+            }
+        }
+        ChunkTicketManager.Hold previous = chunkHold;
+        chunkHold = plugin.getArenaManager().getChunkTickets().warm(arena.getName(), chunks);
+        chunkWorlds = worlds;
+        if (previous != null) {
+            plugin.getArenaManager().getChunkTickets().release(previous);
+        }
+    }
+
+    public void refreshChunkTickets() {
+        if (engine.isActive() && chunkHold != null) {
+            warmChunks(chunkWorlds);
+        }
+    }
+
+    private void releaseChunks() {
+        if (chunkHold != null) {
+            plugin.getArenaManager().getChunkTickets().release(chunkHold);
+            chunkHold = null;
+            chunkWorlds = Collections.emptySet();
+        }
+    }
+
+    public boolean canResume() {
+        return !engine.isActive() && resumeSnapshot != null;
+    }
+
+    public boolean resumeEvent(org.bukkit.command.CommandSender sender) {
+        if (engine.isActive()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-already-running"));
+            }
+            return false;
+        }
+
+        EventJournal.Snapshot snapshot = resumeSnapshot;
+        if (snapshot == null) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-resume-unavailable"));
+            }
+            return false;
+        }
+
+        if (!arena.getRoomManager().areAllRoomsConfigured()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-rooms-not-configured"));
+            }
+            return false;
+        }
+
+        if (!arena.getTeleportManager().hasConfiguredTeleports()) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-start-teleports-not-configured"));
+            }
+            return false;
+        }
+
+        RoomGraph graph = arena.getRoomManager().getGraph();
+        if (graph.indexOf(snapshot.getStageRoom()) < 0) {
+            if (sender != null) {
+                sender.sendMessage(plugin.getMessageManager().getMessage("event-resume-unavailable"));
+            }
+            return false;
+        }
+
+        resumeSnapshot = null;
+        startTimerDriver();
+        int stageIndex = snapshot.getStageIndex();
+        int stageDurationSeconds = snapshot.getStageDurationSeconds() > 0
+                ? snapshot.getStageDurationSeconds()
+                : engine.getSettings().stageDurationSeconds(stageIndex);
+        int remainingSeconds = snapshot.getRemainingSeconds() >= 0 ? snapshot.getRemainingSeconds() : stageDurationSeconds;
+        resetEventState(graph);
+        engine.start(graph, graph.indexOf(snapshot.getStageRoom()), stageIndex, stageDurationSeconds, remainingSeconds);
+        int stageRoom = engine.getStageRoom();
+        reseed();
+        playersWriter.stage(stageIndex, graph.getId(stageRoom));
+
+        Set<World> affectedWorlds = new HashSet<>();
+        List<Participant> offlineParticipants = new ArrayList<>();
+        for (UUID uuid : snapshot.getParticipants()) {
+            int room = graph.indexOf(snapshot.getRoom(uuid));
+            if (room < 0) {
+                room = stageRoom;
+            }
+            String name = snapshot.getName(uuid);
+            Player player = plugin.getServer().getPlayer(uuid);
+            Participant participant;
+            if (player != null) {
+                scheduler.runForEntity(player, () -> player.setGameMode(GameMode.ADVENTURE));
+                affectedWorlds.add(player.getWorld());
+                participant = addParticipant(player, room);
+            } else {
+                participant = addParticipant(uuid, name, room);
+                offlineParticipants.add(participant);
+            }
+
+            double lost = snapshot.getHeartsLost(uuid);
+            if (lost > 0) {
+                engine.recordDamage(participant, lost);
+                playersWriter.hearts(uuid, lost);
+                if (player != null) {
+                    applySlowness(participant, player);
+                }
+            }
+        }
+
+        for (World world : affectedWorlds) {
+            world.setGameRule(GameRule.NATURAL_REGENERATION, false);
+        }
+        warmChunks(affectedWorlds);
+
+        savePlayersFile();
+
+        int timeLeft = Math.max(0, remainingSeconds);
+        for (Participant participant : offlineParticipants) {
+            engine.scheduleDisconnectElimination(participant, timeLeft);
+        }
+
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Participant participant = engine.getParticipant(i);
+            Player player = plugin.getServer().getPlayer(participant.getUuid());
+            if (player != null && graph.getType(participant.getRoom()) == RoomType.DEAD) {
+                engine.scheduleDeath(participant);
+            }
+        }
+
+        if (sender != null) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("event-resume-success",
+                    "%players%", String.valueOf(engine.getParticipantCount())));
+        }
+
+        engine.resume();
+        return true;
+    }
+
+    private List<Player> collectAvailablePlayers() {
+        Set<String> arenaWorlds = arena.getTeleportManager().getWorldNames();
+        List<Player> players = new ArrayList<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            if (plugin.getArenaManager().getParticipantArena(player.getUniqueId()) != null) {
+                continue;
+            }
+            if (!arenaWorlds.isEmpty() && !arenaWorlds.contains(player.getWorld().getName().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            players.add(player);
+        }
+        return players;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public boolean isEventActive() {
+        return engine.isActive();
+    }
+
+    public boolean isParticipant(UUID uuid) {
+        return engine.getParticipant(uuid) != null;
+    }
+
+    public RoomGraph getRooms() {
+        return engine.getRooms();
+    }
+
+    public boolean canUseTeleport(Player player, PadRoute route) {
+        if (player == null) {
+            return false;
+        }
+
+        if (!engine.isActive()) {
+            UUID uuid = player.getUniqueId();
+            if (preEventNotified.add(uuid)) {
+                String message = plugin.getMessageManager().getMessage("event-teleport-blocked");
+                if (message != null && !message.isEmpty()) {
+                    player.sendMessage(message);
+                }
+            }
+            return false;
+        }
+
+        UUID uuid = player.getUniqueId();
+        preEventNotified.remove(uuid);
+
+        if (!isParticipant(player.getUniqueId())) {
+            if (player.hasPermission("deadoralive.teleport.bypass")) {
+                return true;
+            }
+            sendTeleportWarning(player, plugin.getMessageManager().getMessage("event-teleport-not-participant"));
+            return false;
+        }
+
+        if (player.hasPermission("deadoralive.teleport.bypass")) {
+            return true;
+        }
+
+        if (route.getOriginRoom() != engine.getStageRoom()) {
+            sendTeleportWarning(player, plugin.getMessageManager().getMessage("event-teleport-locked"));
+            return false;
+        }
+
+        return true;
+    }
+
+    public int chooseDestination(Player player, String destinationRoom, PadRoute route) {
+        int choice = engine.choose(route.getCandidateCount());
+        if (recorder != null) {
+            record("pad", player.getUniqueId(), destinationRoom, route.getCandidateId(choice));
+        }
+        return choice;
+    }
+
+    public void handleRoomTeleport(Player player, RoomGraph graph, int room) {
+        if (!engine.isActive() || player == null || room < 0) {
+            return;
+        }
+
+        Participant participant = engine.getParticipant(player.getUniqueId());
+        if (participant == null) {
+            return;
+        }
+
+        int destination = graph == engine.getRooms() ? room : engine.getRooms().indexOf(graph.getId(room));
+        if (destination < 0) {
+            plugin.getLogger().warning("Room '" + graph.getId(room) + "' was added to arena '" + arena.getName()
+                    + "' while the event was running and is not tracked until the next event.");
+            return;
+        }
+
+        damageTargetsDirty = true;
+        playersWriter.move(participant.getUuid(), engine.getRooms().getId(destination));
+        countAvoidedBossBarRebuild(0);
+        savePlayersFile();
+
+        if (recorder != null) {
+            record("move", participant.getUuid(), engine.getRooms().getId(destination));
+        }
+        engine.moveParticipant(participant, destination);
+    }
+
+    public void onParticipantDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+
+        double finalDamage = event.getFinalDamage();
+        if (finalDamage <= 0) {
+            return;
+        }
+
+        scheduler.runGlobal(() -> {
+            long started = plugin.getProfiler().begin();
+            handleParticipantDamage(player, finalDamage);
+            plugin.getProfiler().end(Probe.PARTICIPANT_DAMAGE, started);
+        });
+    }
+
+    private void handleParticipantDamage(Player player, double finalDamage) {
+        if (!engine.isActive()) {
+            return;
+        }
+
+        Participant participant = engine.getParticipant(player.getUniqueId());
+        if (participant == null) {
+            return;
+        }
+
+        if (recorder != null) {
+            record("damage", participant.getUuid(), finalDamage / 2.0D);
+        }
+        double lostHearts = engine.recordDamage(participant, finalDamage / 2.0D);
+        playersWriter.hearts(participant.getUuid(), lostHearts);
+        applySlowness(participant, player);
+    }
+
+    public void onPlayerDeath(PlayerDeathEvent event) {
+        if (!engine.isActive()) {
+            return;
+        }
+
+        Player player = event.getEntity();
+        event.setDeathMessage(null);
+        String message = plugin.getMessageManager().getMessage("event-player-eliminated",
+                "%player%", player.getName());
+        plugin.getServer().broadcastMessage(message);
+
+        Location deathLocation = player.getLocation();
+        World world = deathLocation.getWorld();
+        if (world != null) {
+            world.createExplosion(deathLocation, 0F, false, false);
+        }
+
+        scheduler.runGlobal(() -> {
+            Participant participant = engine.getParticipant(player.getUniqueId());
+            if (participant != null) {
+                if (recorder != null) {
+                    record("death", participant.getUuid());
+                }
+                engine.eliminate(participant);
+            }
+        });
+    }
+
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        if (!engine.isActive()) {
+            return;
+        }
+
+        Player player = event.getPlayer();
+        if (plugin.getArenaManager().getParticipantArena(player.getUniqueId()) != null) {
+            return;
+        }
+
+        Location respawnLocation = lobbyManager.getLobbyLocation();
+        if (respawnLocation == null) {
+            List<World> worlds = plugin.getServer().getWorlds();
+            if (worlds.isEmpty()) {
+                return;
+            }
+            World world = worlds.get(0);
+            respawnLocation = resolveWorldSpawn(world);
+        }
+        if (respawnLocation != null) {
+            event.setRespawnLocation(respawnLocation.clone());
+        }
+
+        player.removePotionEffect(PotionEffectType.SLOWNESS);
+    }
+
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        scheduler.runGlobal(() -> handlePlayerJoin(player));
+    }
+
+    private void handlePlayerJoin(Player player) {
+        if (!engine.isActive()) {
+            return;
+        }
+
+        Participant participant = engine.getParticipant(player.getUniqueId());
+        if (participant == null) {
+            return;
+        }
+
+        if (recorder != null) {
+            record("rejoin", participant.getUuid());
+        }
+        engine.reconnect(participant);
+
+        scheduler.runForEntity(player, () -> player.setGameMode(GameMode.ADVENTURE));
+        Location previousLocation = disconnectLocations.remove(participant.getUuid());
+        RoomGraph rooms = engine.getRooms();
+        int room = participant.getRoom();
+        if (previousLocation != null && previousLocation.getWorld() != null) {
+            scheduler.teleport(player, previousLocation);
+        } else if (rooms.hasCenter(room)) {
+            scheduler.teleport(player, new Location(player.getWorld(), rooms.getCenterX(room), rooms.getCenterY(room),
+                    rooms.getCenterZ(room)));
+        } else {
+            teleportPlayerToSpawn(player);
+        }
+        damageTargetsDirty = true;
+        addToBossBar(player);
+        countAvoidedBossBarRebuild(1);
+    }
+
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        Location quitLocation = player.getLocation();
+        scheduler.runGlobal(() -> handlePlayerQuit(player, quitLocation));
+    }
+
+    private void handlePlayerQuit(Player player, Location quitLocation) {
+        if (!engine.isActive()) {
+            return;
+        }
+
+        Participant participant = engine.getParticipant(player.getUniqueId());
+        if (participant == null) {
+            return;
+        }
+
+        removeFromBossBar(player);
+        damageTargetsDirty = true;
+
+        if (recorder != null) {
+            record("quit", participant.getUuid());
+        }
+        int timeLeft = engine.disconnect(participant);
+        if (timeLeft <= 0) {
+            return;
+        }
+
+        if (quitLocation != null) {
+            disconnectLocations.put(participant.getUuid(), quitLocation.clone());
+        }
+
+        String message = plugin.getMessageManager().getMessage("event-player-disconnected",
+                "%player%", player.getName(),
+                "%time%", formatTime(timeLeft));
+        plugin.getServer().broadcastMessage(message);
+    }
+
+    public void shutdown() {
+        engine.stop();
+        playersWriter.shutdown();
+    }
+
+    private void resetEventState(RoomGraph rooms) {
+        Arrays.fill(damageTargets, 0, damageTargetCount, null);
+        damageTargetCount = 0;
+        damageTargetsDirty = true;
+        outsiderWarningCooldowns.clear();
+        disconnectLocations.clear();
+        preEventNotified.clear();
+        playersWriter.reset(rooms.getIds());
+    }
+
+    private Participant addParticipant(Player player, int room) {
+        Participant participant = addParticipant(player.getUniqueId(), player.getName(), room);
+        addToBossBar(player);
+        return participant;
+    }
+
+    private Participant addParticipant(UUID uuid, String name, int room) {
+        Participant participant = engine.join(uuid, name, room);
+        if (recorder != null) {
+            record("join", uuid, participant.getName(), engine.getRooms().getId(room));
+        }
+        damageTargetsDirty = true;
+        plugin.getArenaManager().bindParticipant(uuid, arena);
+        playersWriter.join(uuid, name, engine.getRooms().getId(room));
+        return participant;
+    }
+
+    @Override
+    public void onIntroFinished() {
+        broadcastToParticipants(plugin.getMessageManager().getMessage("event-start-chat"));
+    }
+
+    @Override
+    public void onCountdownStarted(int remainingSeconds, int stageDurationSeconds) {
+        playersWriter.time(remainingSeconds, stageDurationSeconds);
+        ensureBossBar();
+        countAvoidedBossBarRebuild(0);
+        updateBossBarTitle();
+        bossBar.setProgress(Math.max(0.0, Math.min(1.0, remainingSeconds / (double) stageDurationSeconds)));
+    }
+
+    @Override
+    public void onCountdownTick(int remainingSeconds, int stageDurationSeconds) {
+        long started = plugin.getProfiler().begin();
+        playersWriter.time(remainingSeconds, stageDurationSeconds);
+        ensureBossBar();
+        bossBar.setProgress(Math.max(0.0, Math.min(1.0, remainingSeconds / (double) stageDurationSeconds)));
+        updateBossBarTitle();
+        plugin.getProfiler().end(Probe.COUNTDOWN_TICK, started);
+    }
+
+    @Override
+    public void onDamageTick(int stageRoom, int damageHearts) {
+        long started = plugin.getProfiler().begin();
+        if (recorder != null) {
+            record("damage-tick");
+        }
+        if (damageTargetsDirty) {
+            rebuildDamageTargets(stageRoom);
+        }
+
+        double damage = damageHearts * 2.0D;
+        boolean folia = scheduler.isFolia();
+        for (int i = 0; i < damageTargetCount; i++) {
+            Player player = damageTargets[i];
+            if (!folia) {
+                if (!player.isDead()) {
+                    player.damage(damage);
+                }
+                continue;
+            }
+            scheduler.runForEntity(player, () -> {
+                if (!player.isDead()) {
+                    player.damage(damage);
+                }
+            });
+        }
+        if (recorder != null) {
+            record("done");
+        }
+        plugin.getProfiler().end(Probe.DAMAGE_TICK, started);
+    }
+
+    @Override
+    public void onStageChanged(int stageIndex, int stageRoom) {
+        damageTargetsDirty = true;
+        playersWriter.stage(stageIndex, engine.getRooms().getId(stageRoom));
+    }
+
+    @Override
+    public void onDeathTimerExpired(Participant participant) {
+        if (recorder != null) {
+            record("expire", participant.getUuid());
+        }
+        Player target = plugin.getServer().getPlayer(participant.getUuid());
+        if (target != null && !scheduler.isFolia()) {
+            if (target.isOnline() && !target.isDead()) {
+                target.setHealth(0.0);
+            }
+        } else if (target != null) {
+            scheduler.runForEntity(target, () -> {
+                if (target.isOnline() && !target.isDead()) {
+                    target.setHealth(0.0);
+                }
+            });
+        }
+        if (recorder != null) {
+            record("done");
+        }
+    }
+
+    @Override
+    public void onParticipantRemoved(Participant participant) {
+        UUID uuid = participant.getUuid();
+        damageTargetsDirty = true;
+        disconnectLocations.remove(uuid);
+        playersWriter.remove(uuid);
+        plugin.getArenaManager().unbindParticipant(uuid, arena);
+        Player player = plugin.getServer().getPlayer(uuid);
+        int sent = removeFromBossBar(player) ? 1 : 0;
+        countAvoidedBossBarRebuild(sent);
+        savePlayersFile();
+    }
+
+    @Override
+    public void onDisconnectElimination(Participant participant) {
+        String message = plugin.getMessageManager().getMessage("event-player-disconnect-eliminated",
+                "%player%", participant.getName());
+        plugin.getServer().broadcastMessage(message);
+    }
+
+    @Override
+    public void onEventEnded(GameEngine.Outcome outcome, List<String> winners, Participant[] ended) {
+        stopTimerDriver();
+        if (recorder != null) {
+            record("end", outcome.name());
+            recorder.close();
+            recorder = null;
+        }
+        Arrays.fill(damageTargets, 0, damageTargetCount, null);
+        damageTargetCount = 0;
+        damageTargetsDirty = true;
+        outsiderWarningCooldowns.clear();
+        disconnectLocations.clear();
+        preEventNotified.clear();
+
+        if (bossBar != null) {
+            bossBar.removeAll();
+            bossBar.setVisible(false);
+            bossBar = null;
+        }
+        bossBarAudience.clear();
+        if (bossBarPacketsAvoided > 0) {
+            plugin.getLogger().info("Incremental bossbar membership avoided " + bossBarPacketsAvoided + " bossbar packets this event.");
+        }
+        bossBarPacketsAvoided = 0;
+        long skipped = slownessUpdatesSkipped.sumThenReset();
+        if (skipped > 0) {
+            plugin.getLogger().info("Cached slowness tiers skipped " + skipped + " redundant effect updates this event.");
+        }
+
+        if (outcome == GameEngine.Outcome.SUCCESS) {
+            String names = winners.isEmpty() ? "" : String.join(", ", winners);
+            plugin.getServer().broadcastMessage(plugin.getMessageManager().getMessage("event-finish-success",
+                    "%players%", names));
+        } else if (outcome == GameEngine.Outcome.FAILURE) {
+            plugin.getServer().broadcastMessage(plugin.getMessageManager().getMessage("event-finish-failure"));
+        }
+
+        Location spawn = resolveSpawnTarget();
+        List<TeleportPipeline.Request> teleports = new ArrayList<>(ended.length);
+        for (Participant participant : ended) {
+            Player player = plugin.getServer().getPlayer(participant.getUuid());
+            if (player != null) {
+                scheduler.runForEntity(player, () -> player.removePotionEffect(PotionEffectType.SLOWNESS));
+                if (spawn != null) {
+                    teleports.add(new TeleportPipeline.Request(player, spawn));
+                }
+            }
+        }
+        if (!teleports.isEmpty()) {
+            plugin.getTeleportPipeline().submit(teleports, null);
+        }
+
+        playersWriter.delete();
+        releaseChunks();
+
+        for (Participant participant : ended) {
+            plugin.getArenaManager().unbindParticipant(participant.getUuid(), arena);
+        }
+    }
+
+    private void rebuildDamageTargets(int stageRoom) {
+        int count = 0;
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Participant participant = engine.getParticipant(i);
+            if (participant.getRoom() != stageRoom) {
+                continue;
+            }
+            Player player = plugin.getServer().getPlayer(participant.getUuid());
+            if (player == null) {
+                continue;
+            }
+            if (count == damageTargets.length) {
+                damageTargets = Arrays.copyOf(damageTargets, count * 2);
+            }
+            damageTargets[count++] = player;
+        }
+        Arrays.fill(damageTargets, count, damageTargetCount, null);
+        damageTargetCount = count;
+        damageTargetsDirty = false;
+    }
+
+    private void applySlowness(Participant participant, Player player) {
+        int amplifier = Math.max(0, (int) Math.floor(participant.getHeartsLost()) - 1);
+        boolean cached = amplifier == participant.getSlownessTier();
+        participant.setSlownessTier(amplifier);
+        PotionEffect effect = amplifier < SLOWNESS_TIERS.length
+                ? SLOWNESS_TIERS[amplifier]
+                : new PotionEffect(PotionEffectType.SLOWNESS, Integer.MAX_VALUE, amplifier, false, false, false);
+        scheduler.runForEntity(player, () -> {
+            // Milk or /effect clear drop the effect without changing the tier, so check the player before skipping.
+            PotionEffect current = cached ? player.getPotionEffect(PotionEffectType.SLOWNESS) : null;
+            if (current != null && current.getAmplifier() == amplifier) {
+                slownessUpdatesSkipped.increment();
+                return;
+            }
+            player.addPotionEffect(effect);
+        });
+    }
+
+    private static PotionEffect[] createSlownessTiers(int tiers) {
+        PotionEffect[] effects = new PotionEffect[tiers];
+        for (int amplifier = 0; amplifier < tiers; amplifier++) {
+            effects[amplifier] = new PotionEffect(PotionEffectType.SLOWNESS, Integer.MAX_VALUE, amplifier, false, false, false);
+        }
+        return effects;
+    }
+
+    private void ensureBossBar() {
+        if (bossBar != null) {
+            return;
+        }
+
+        BarColor color = parseColor(plugin.getMessageManager().getRaw("event-bossbar-color"));
+        BarStyle style = parseStyle(plugin.getMessageManager().getRaw("event-bossbar-style"));
+        String title = plugin.getMessageManager().getMessage("event-bossbar-title");
+        bossBar = Bukkit.createBossBar(title, color, style);
+        bossBar.setVisible(true);
+        bossBarAudience.clear();
+        updateBossBarPlayers();
+    }
+
+    private void updateBossBarPlayers() {
+        if (bossBar == null) {
+            return;
+        }
+
+        long started = plugin.getProfiler().begin();
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Player player = plugin.getServer().getPlayer(engine.getParticipant(i).getUuid());
+            if (player != null) {
+                addToBossBar(player);
+            }
+        }
+        plugin.getProfiler().end(Probe.BOSSBAR_UPDATE, started);
+    }
+
+    private void addToBossBar(Player player) {
+        if (bossBar != null && bossBarAudience.add(player.getUniqueId())) {
+            bossBar.addPlayer(player);
+        }
+    }
+
+    private boolean removeFromBossBar(Player player) {
+        if (player == null || !bossBarAudience.remove(player.getUniqueId())) {
+            return false;
+        }
+        if (bossBar != null) {
+            bossBar.removePlayer(player);
+        }
+        return true;
+    }
+
+    private void countAvoidedBossBarRebuild(int packetsSent) {
+        if (bossBar == null) {
+            return;
+        }
+        bossBarPacketsAvoided += Math.max(0, 2L * bossBarAudience.size() - packetsSent);
+    }
+
+    public long getBossBarPacketsAvoided() {
+        return bossBarPacketsAvoided;
+    }
+
+    private void updateBossBarTitle() {
+        if (bossBar == null) {
+            return;
+        }
+
+        long started = plugin.getProfiler().begin();
+        bossBar.setTitle(plugin.getMessageManager().getMessage("event-bossbar-title",
+                "%time%", formatTime(Math.max(0, engine.getRemainingSeconds()))));
+        plugin.getProfiler().end(Probe.BOSSBAR_UPDATE, started);
+    }
+
+    private void broadcastToParticipants(String message) {
+        if (message == null || message.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Player player = plugin.getServer().getPlayer(engine.getParticipant(i).getUuid());
+            if (player != null) {
+                player.sendMessage(message);
+            }
+        }
+    }
+
+    private void sendTeleportWarning(Player player, String message) {
+        if (message == null || message.isEmpty()) {
+            return;
+        }
+        long now = engine.getCurrentTick();
+        Participant participant = engine.getParticipant(player.getUniqueId());
+        long next = participant != null
+                ? participant.getWarningCooldownTick()
+                : outsiderWarningCooldowns.getOrDefault(player.getUniqueId(), 0L);
+        if (now < next) {
+            return;
+        }
+        if (participant != null) {
+            participant.setWarningCooldownTick(now + 20L);
+        } else {
+            outsiderWarningCooldowns.put(player.getUniqueId(), now + 20L);
+        }
+        player.sendMessage(message);
+    }
+
+    private void savePlayersFile() {
+        long started = plugin.getProfiler().begin();
+        playersWriter.requestFlush();
+        plugin.getProfiler().end(Probe.PLAYERS_FILE_SAVE, started);
+    }
+
+    private void startTimerDriver() {
+        if (timerDriver != null || !plugin.isEnabled()) {
+            return;
+        }
+        timerDriver = scheduler.runGlobalTimer(engine::tick, 1L, 1L);
+    }
+
+    private void stopTimerDriver() {
+        if (timerDriver != null) {
+            timerDriver.cancel();
+            timerDriver = null;
+        }
+    }
+
+    private void teleportPlayerToSpawn(Player player) {
+        if (player == null) {
+            return;
+        }
+
+        Location target = resolveSpawnTarget();
+        if (target != null) {
+            scheduler.teleport(player, target);
+        }
+    }
+
+    private Location resolveSpawnTarget() {
+        Location target = lobbyManager.getLobbyLocation();
+        if (target != null) {
+            return target;
+        }
+
+        List<World> worlds = plugin.getServer().getWorlds();
+        if (worlds.isEmpty()) {
+            return null;
+        }
+        return resolveWorldSpawn(worlds.get(0));
+    }
+
+    private Location resolveWorldSpawn(World world) {
+        if (world == null) {
+            return null;
+        }
+
+        Location spawn = world.getSpawnLocation();
+        if (spawn == null) {
+            return null;
+        }
+
+        return ensureSafeSpawnLocation(spawn);
+    }
+
+    private Location ensureSafeSpawnLocation(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return location;
+        }
+
+        Location safeLocation = location.clone();
+        int blockX = safeLocation.getBlockX();
+        int blockZ = safeLocation.getBlockZ();
+
+        safeLocation.setX(blockX + 0.5);
+        safeLocation.setZ(blockZ + 0.5);
+        return safeLocation;
+    }
+
+
+    private String formatTime(int totalSeconds) {
+        int minutes = totalSeconds / 60;
+        int seconds = totalSeconds % 60;
+        return minutes + "m " + seconds + "s";
+    }
+
+    private BarColor parseColor(String value) {
+        if (value == null || value.isEmpty()) {
+            return BarColor.RED;
+        }
+        try {
+            return BarColor.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            plugin.getLogger().warning("Unknown boss bar color '" + value + "'. Using RED.");
+            return BarColor.RED;
+        }
+    }
+
+    private BarStyle parseStyle(String value) {
+        if (value == null || value.isEmpty()) {
+            return BarStyle.SOLID;
+        }
+        try {
+            return BarStyle.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            plugin.getLogger().warning("Unknown boss bar style '" + value + "'. Using SOLID.");
+            return BarStyle.SOLID;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.foxy.deadOrAlive.event;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.game.GameSettings;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+final class EventRecorder {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final DeadOrAlive plugin;
+    private final File file;
+    private final long startTick;
+    private final StringBuilder buffer = new StringBuilder(4096);
+    private int records;
+
+    EventRecorder(DeadOrAlive plugin, File folder, String arenaName, long seed, GameSettings settings,
+                  String layout, String startRoom, long startTick) {
+        this.plugin = plugin;
+        this.file = new File(folder, arenaName + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".rec");
+        this.startTick = startTick;
+        buffer.append("seed ").append(seed).append('\n');
+        buffer.append("settings ").append(settings.initialTimeSeconds()).append(' ')
+                .append(settings.timeDecrementSeconds()).append(' ')
+                .append(settings.damageIntervalSeconds()).append(' ')
+                .append(settings.damageHearts()).append(' ')
+                .append(settings.startDelaySeconds()).append(' ')
+                .append(settings.deathDelaySeconds()).append('\n');
+        buffer.append("layout ").append(layout).append('\n');
+        buffer.append("start ").append(startRoom).append('\n');
+    }
+
+    void record(long tick, String type, Object... values) {
+        buffer.append(tick - startTick).append(' ').append(type);
+        for (Object value : values) {
+            buffer.append(' ').append(value);
+        }
+        buffer.append('\n');
+        records++;
+    }
+
+    void close() {
+        String contents = buffer.toString();
+        int count = records;
+        Runnable write = () -> {
+            File folder = file.getParentFile();
+            if (!folder.exists() && !folder.mkdirs()) {
+                plugin.getLogger().warning("Could not create " + folder.getPath() + " for event recordings.");
+                return;
+            }
+            try {
+                Files.writeString(file.toPath(), contents, StandardCharsets.UTF_8);
+                plugin.getLogger().info("Recorded " + count + " event inputs to recordings/" + file.getName() + ".");
+            } catch (IOException exception) {
+                plugin.getLogger().warning("Could not write event recording " + file.getName() + ": " + exception.getMessage());
+            }
+        };
+
+        if (plugin.isEnabled()) {
+            plugin.getTaskScheduler().runAsync(write);
+        } else {
+            write.run();
+        }
+    }
+}
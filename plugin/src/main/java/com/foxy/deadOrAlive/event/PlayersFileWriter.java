@@ -0,0 +1,263 @@
+package com.foxy.deadOrAlive.event;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.profile.Probe;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PlayersFileWriter {
+
+    private static final long MIN_FLUSH_INTERVAL_MILLIS = 500L;
+
+    private final DeadOrAlive plugin;
+    private final Path playersPath;
+    private final Path temporaryPath;
+    private final Queue<Change> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService executor;
+    private final EventJournal journal;
+
+    private final Map<String, Map<UUID, String>> roomOccupants = new LinkedHashMap<>();
+    private final Map<UUID, String> playerRooms = new HashMap<>();
+    private final Map<UUID, String> playerNames = new HashMap<>();
+    private boolean deleted = true;
+    private boolean dirty;
+    private boolean journalFailed;
+    private volatile long lastFlushMillis;
+
+    public PlayersFileWriter(DeadOrAlive plugin, File playersFile, EventJournal journal) {
+        this.plugin = plugin;
+        this.journal = journal;
+        this.playersPath = playersFile.toPath();
+        this.temporaryPath = playersFile.toPath().resolveSibling(playersFile.getName() + ".tmp");
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DeadOrAlive-PlayersWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void reset(Collection<String> roomIds) {
+        pendingChanges.add(new Change(ChangeType.RESET, null, null, List.copyOf(roomIds)));
+    }
+
+    public void join(UUID uuid, String name, String roomId) {
+        pendingChanges.add(new Change(ChangeType.JOIN, uuid, roomId, name));
+    }
+
+    public void move(UUID uuid, String roomId) {
+        pendingChanges.add(new Change(ChangeType.MOVE, uuid, roomId, null));
+    }
+
+    public void remove(UUID uuid) {
+        pendingChanges.add(new Change(ChangeType.REMOVE, uuid, null, null));
+    }
+
+    public void hearts(UUID uuid, double heartsLost) {
+        pendingChanges.add(new Change(ChangeType.HEARTS, uuid, null, heartsLost));
+        requestFlush();
+    }
+
+    public void stage(int stageIndex, String roomId) {
+        pendingChanges.add(new Change(ChangeType.STAGE, null, roomId, stageIndex));
+        requestFlush();
+    }
+
+    public void time(int remainingSeconds, int stageDurationSeconds) {
+        pendingChanges.add(new Change(ChangeType.TIME, null, null, new int[]{remainingSeconds, stageDurationSeconds}));
+        requestFlush();
+    }
+
+    public void delete() {
+        pendingChanges.add(new Change(ChangeType.DELETE, null, null, null));
+        requestFlush();
+    }
+
+    public void requestFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        long delay = Math.max(0L, lastFlushMillis + MIN_FLUSH_INTERVAL_MILLIS - System.currentTimeMillis());
+        try {
+            executor.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException exception) {
+            flushScheduled.set(false);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for players.yml writer to finish.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    synchronized void flush() {
+        long started = plugin.getProfiler().begin();
+        try {
+            flushScheduled.set(false);
+            lastFlushMillis = System.currentTimeMillis();
+
+            Change change;
+            while ((change = pendingChanges.poll()) != null) {
+                apply(change);
+            }
+            record(journal::flush);
+
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+
+            try {
+                if (deleted) {
+                    Files.deleteIfExists(playersPath);
+                } else {
+                    writeAtomically(serialize());
+                }
+            } catch (IOException exception) {
+                plugin.getLogger().severe("Failed to save players.yml: " + exception.getMessage());
+            }
+        } finally {
+            plugin.getProfiler().end(Probe.PLAYERS_FILE_WRITE, started);
+        }
+    }
+
+    private void apply(Change change) {
+        switch (change.type()) {
+            case RESET -> {
+                roomOccupants.clear();
+                playerRooms.clear();
+                playerNames.clear();
+                for (Object roomId : (List<?>) change.payload()) {
+                    roomOccupants.put((String) roomId, new HashMap<>());
+                }
+                deleted = false;
+                dirty = true;
+                journalFailed = false;
+                record(journal::open);
+            }
+            case JOIN -> {
+                String name = (String) change.payload();
+                playerNames.put(change.uuid(), name);
+                moveTo(change.uuid(), change.roomId());
+                record(() -> journal.join(change.uuid(), name, change.roomId()));
+            }
+            case MOVE -> {
+                moveTo(change.uuid(), change.roomId());
+                record(() -> journal.move(change.uuid(), change.roomId()));
+            }
+            case REMOVE -> {
+                String previousRoom = playerRooms.remove(change.uuid());
+                if (previousRoom != null) {
+                    roomOccupants.get(previousRoom).remove(change.uuid());
+                }
+                playerNames.remove(change.uuid());
+                dirty = true;
+                record(() -> journal.remove(change.uuid()));
+            }
+            case HEARTS -> record(() -> journal.hearts(change.uuid(), (Double) change.payload()));
+            case STAGE -> record(() -> journal.stage((Integer) change.payload(), change.roomId()));
+            case TIME -> {
+                int[] time = (int[]) change.payload();
+                record(() -> journal.time(time[0], time[1]));
+            }
+            case DELETE -> {
+                roomOccupants.clear();
+                playerRooms.clear();
+                playerNames.clear();
+                deleted = true;
+                dirty = true;
+                record(journal::delete);
+            }
+        }
+    }
+
+    private void record(JournalWrite write) {
+        try {
+            write.run();
+        } catch (IOException exception) {
+            if (!journalFailed) {
+                journalFailed = true;
+                plugin.getLogger().severe("Failed to write event journal: " + exception.getMessage());
+            }
+        }
+    }
+
+    private void moveTo(UUID uuid, String roomId) {
+        String previousRoom = playerRooms.put(uuid, roomId);
+        if (previousRoom != null) {
+            roomOccupants.get(previousRoom).remove(uuid);
+        }
+        String name = playerNames.get(uuid);
+        roomOccupants.computeIfAbsent(roomId, key -> new HashMap<>())
+                .put(uuid, name == null ? uuid.toString() : name);
+        dirty = true;
+    }
+
+    String serialize() {
+        YamlConfiguration configuration = new YamlConfiguration();
+        for (Map.Entry<String, Map<UUID, String>> entry : roomOccupants.entrySet()) {
+            List<String> names = new ArrayList<>(entry.getValue().values());
+            names.sort(String.CASE_INSENSITIVE_ORDER);
+            configuration.set(entry.getKey(), names);
+        }
+        return configuration.saveToString();
+    }
+
+    private void writeAtomically(String contents) throws IOException {
+        Files.createDirectories(playersPath.getParent());
+        Files.write(temporaryPath, contents.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporaryPath, playersPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporaryPath, playersPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private enum ChangeType {
+        RESET,
+        JOIN,
+        MOVE,
+        REMOVE,
+        HEARTS,
+        STAGE,
+        TIME,
+        DELETE
+    }
+
+    @FunctionalInterface
+    private interface JournalWrite {
+        void run() throws IOException;
+    }
+
+    private record Change(ChangeType type, UUID uuid, String roomId, Object payload) {
+    }
+}
@@ -0,0 +1,522 @@
+package com.foxy.deadOrAlive.game;
+
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomType;
+import com.foxy.deadOrAlive.util.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+public final class GameEngine {
+
+    public static final long INTRO_TICKS = 100L;
+
+    public enum Outcome {
+        SUCCESS,
+        FAILURE,
+        ABORTED
+    }
+
+    private final GameListener listener;
+    private final TimerWheel timers = new TimerWheel();
+    private GameSettings settings;
+    private RandomGenerator random;
+
+    private final Map<UUID, Participant> participants = new HashMap<>();
+    private Participant[] participantArray = new Participant[16];
+    private int participantCount;
+    private RoomGraph rooms = RoomGraph.EMPTY;
+    private int[] roomCounts = new int[0];
+    private final int[] typeCounts = new int[RoomType.values().length];
+    private int pendingDeathCount;
+
+    private TimerWheel.Timer stageTask;
+    private TimerWheel.Timer introTask;
+    private TimerWheel.Timer pendingCountdownStart;
+    private boolean damagePhase;
+    private int secondsUntilDamage;
+
+    private boolean active;
+    private int currentStageRoom;
+    private int stageIndex;
+    private int stageDurationSeconds;
+    private int remainingSeconds;
+
+    public GameEngine(GameSettings settings, RandomGenerator random, GameListener listener) {
+        this.settings = settings;
+        this.random = random;
+        this.listener = listener;
+    }
+
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    public void setSettings(GameSettings settings) {
+        this.settings = settings;
+    }
+
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public int choose(int bound) {
+        return bound <= 1 ? 0 : random.nextInt(bound);
+    }
+
+    public void start(RoomGraph rooms, int stageRoom) {
+        int duration = settings.stageDurationSeconds(0);
+        start(rooms, stageRoom, 0, duration, duration);
+    }
+
+    public void start(RoomGraph rooms, int stageRoom, int stageIndex, int stageDurationSeconds, int remainingSeconds) {
+        if (active) {
+            throw new IllegalStateException("A game is already running.");
+        }
+
+        cancelStageTask();
+        cancelPendingAnnouncements();
+        clearParticipants();
+        this.rooms = rooms;
+        this.roomCounts = new int[rooms.size()];
+        this.currentStageRoom = stageRoom;
+        this.stageIndex = stageIndex;
+        this.stageDurationSeconds = stageDurationSeconds;
+        this.remainingSeconds = remainingSeconds;
+        this.active = true;
+    }
+
+    public Participant join(UUID uuid, String name, int room) {
+        Participant participant = new Participant(uuid, name == null || name.isEmpty() ? uuid.toString() : name, room);
+        if (participantCount == participantArray.length) {
+            participantArray = Arrays.copyOf(participantArray, participantCount * 2);
+        }
+        participant.setSlot(participantCount);
+        participantArray[participantCount++] = participant;
+        participants.put(uuid, participant);
+        occupy(room, 1);
+        return participant;
+    }
+
+    public void beginIntro() {
+        cancelPendingAnnouncements();
+        introTask = timers.schedule(INTRO_TICKS, () -> {
+            introTask = null;
+            listener.onIntroFinished();
+            scheduleCountdownStart();
+        });
+    }
+
+    public void resume() {
+        if (!active) {
+            return;
+        }
+
+        if (remainingSeconds <= 0) {
+            listener.onCountdownTick(0, stageDurationSeconds);
+            startStageTask(true);
+        } else {
+            startCountdown(remainingSeconds);
+        }
+    }
+
+    public int tick() {
+        return timers.tick();
+    }
+
+    public void moveParticipant(Participant participant, int destination) {
+        if (!isMember(participant)) {
+            return;
+        }
+
+        occupy(participant.getRoom(), -1);
+        participant.setRoom(destination);
+        occupy(destination, 1);
+
+        if (rooms.getType(destination) == RoomType.DEAD) {
+            scheduleDeath(participant);
+        } else {
+            cancelPendingDeath(participant);
+        }
+
+        checkForAdvanceOrFinish();
+    }
+
+    public double recordDamage(Participant participant, double hearts) {
+        double lostHearts = participant.getHeartsLost() + hearts;
+        participant.setHeartsLost(lostHearts);
+        return lostHearts;
+    }
+
+    public void eliminate(Participant participant) {
+        if (!isMember(participant)) {
+            return;
+        }
+
+        removeParticipant(participant);
+        checkForAdvanceOrFinish();
+    }
+
+    public int disconnect(Participant participant) {
+        cancelPendingDeath(participant);
+
+        int timeLeft = Math.max(0, remainingSeconds);
+        if (stageTask == null || damagePhase) {
+            if (pendingCountdownStart != null) {
+                timeLeft = Math.max(timeLeft, stageDurationSeconds);
+            } else if (stageTask != null) {
+                timeLeft = 0;
+            } else if (timeLeft <= 0) {
+                timeLeft = stageDurationSeconds;
+            }
+        }
+
+        scheduleDisconnectElimination(participant, timeLeft);
+        return timeLeft;
+    }
+
+    public void reconnect(Participant participant) {
+        cancelPendingDisconnect(participant);
+        if (rooms.getType(participant.getRoom()) == RoomType.DEAD) {
+            scheduleDeath(participant);
+        }
+    }
+
+    public void scheduleDeath(Participant participant) {
+        cancelPendingDeath(participant);
+        participant.setDeathTimer(timers.schedule(settings.deathDelaySeconds() * 20L, () -> {
+            participant.setDeathTimer(null);
+            pendingDeathCount--;
+            listener.onDeathTimerExpired(participant);
+        }));
+        pendingDeathCount++;
+    }
+
+    public void scheduleDisconnectElimination(Participant participant, int timeLeftSeconds) {
+        if (timeLeftSeconds <= 0) {
+            eliminateDisconnected(participant);
+            return;
+        }
+        cancelPendingDisconnect(participant);
+        participant.setDisconnectTimer(timers.schedule(timeLeftSeconds * 20L, () -> eliminateDisconnected(participant)));
+    }
+
+    public void stop() {
+        end(Outcome.ABORTED, Collections.emptyList());
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public RoomGraph getRooms() {
+        return rooms;
+    }
+
+    public int getStageRoom() {
+        return currentStageRoom;
+    }
+
+    public int getStageIndex() {
+        return stageIndex;
+    }
+
+    public int getStageDurationSeconds() {
+        return stageDurationSeconds;
+    }
+
+    public int getRemainingSeconds() {
+        return remainingSeconds;
+    }
+
+    public int getOccupancy(int room) {
+        return roomCounts[room];
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    public Participant getParticipant(int index) {
+        return participantArray[index];
+    }
+
+    public Participant getParticipant(UUID uuid) {
+        return participants.get(uuid);
+    }
+
+    public long getCurrentTick() {
+        return timers.getCurrentTick();
+    }
+
+    private boolean isMember(Participant participant) {
+        return active && participant != null && participants.get(participant.getUuid()) == participant;
+    }
+
+    private void removeParticipant(Participant participant) {
+        participants.remove(participant.getUuid());
+        int slot = participant.getSlot();
+        Participant last = participantArray[--participantCount];
+        participantArray[slot] = last;
+        last.setSlot(slot);
+        participantArray[participantCount] = null;
+        occupy(participant.getRoom(), -1);
+
+        cancelPendingDeath(participant);
+        cancelPendingDisconnect(participant);
+        listener.onParticipantRemoved(participant);
+    }
+
+    private void occupy(int room, int delta) {
+        roomCounts[room] += delta;
+        typeCounts[rooms.getType(room).ordinal()] += delta;
+    }
+
+    private void clearParticipants() {
+        for (int i = 0; i < participantCount; i++) {
+            Participant participant = participantArray[i];
+            cancelPendingDeath(participant);
+            cancelPendingDisconnect(participant);
+            participantArray[i] = null;
+        }
+        participants.clear();
+        participantCount = 0;
+        pendingDeathCount = 0;
+        Arrays.fill(roomCounts, 0);
+        Arrays.fill(typeCounts, 0);
+    }
+
+    private void scheduleCountdownStart() {
+        cancelPendingCountdownStart();
+        pendingCountdownStart = timers.schedule(settings.startDelaySeconds() * 20L, () -> {
+            pendingCountdownStart = null;
+            startCountdown();
+        });
+    }
+
+    private void startCountdown() {
+        stageDurationSeconds = settings.stageDurationSeconds(stageIndex);
+        startCountdown(stageDurationSeconds);
+    }
+
+    private void startCountdown(int seconds) {
+        cancelStageTask();
+
+        if (!active) {
+            return;
+        }
+
+        if (roomCounts[currentStageRoom] == 0) {
+            advanceStage();
+            return;
+        }
+
+        remainingSeconds = seconds;
+        listener.onCountdownStarted(remainingSeconds, stageDurationSeconds);
+        startStageTask(false);
+    }
+
+    private void startStageTask(boolean damage) {
+        cancelStageTask();
+        if (!active) {
+            return;
+        }
+
+        damagePhase = damage;
+        secondsUntilDamage = settings.damageIntervalSeconds();
+        stageTask = timers.scheduleRepeating(20L, 20L, this::tickStage);
+    }
+
+    private void tickStage() {
+        if (!active) {
+            cancelStageTask();
+            return;
+        }
+
+        if (!damagePhase) {
+            tickCountdown();
+            return;
+        }
+
+        if (--secondsUntilDamage > 0) {
+            return;
+        }
+        secondsUntilDamage = settings.damageIntervalSeconds();
+        tickDamage();
+    }
+
+    private void tickCountdown() {
+        remainingSeconds--;
+        listener.onCountdownTick(Math.max(0, remainingSeconds), stageDurationSeconds);
+        if (remainingSeconds <= 0) {
+            damagePhase = true;
+            secondsUntilDamage = settings.damageIntervalSeconds();
+        }
+    }
+
+    private void tickDamage() {
+        if (roomCounts[currentStageRoom] == 0) {
+            cancelStageTask();
+            advanceStage();
+            return;
+        }
+
+        listener.onDamageTick(currentStageRoom, settings.damageHearts());
+    }
+
+    private void advanceStage() {
+        cancelStageTask();
+
+        int nextRoom = findNextStageRoom();
+        if (nextRoom < 0) {
+            if (pendingDeathCount > 0) {
+                return;
+            }
+            end(Outcome.FAILURE, Collections.emptyList());
+            return;
+        }
+
+        if (nextRoom != currentStageRoom) {
+            if (rooms.getType(nextRoom) != RoomType.FINISH) {
+                stageIndex++;
+            }
+            currentStageRoom = nextRoom;
+            listener.onStageChanged(stageIndex, currentStageRoom);
+        }
+
+        if (rooms.getType(currentStageRoom) == RoomType.FINISH) {
+            end(Outcome.SUCCESS, collectParticipantsByRoom(currentStageRoom));
+            return;
+        }
+
+        startCountdown();
+    }
+
+    private int findNextStageRoom() {
+        if (typeCounts[RoomType.SAFE.ordinal()] == 0 && typeCounts[RoomType.FINISH.ordinal()] == 0) {
+            return -1;
+        }
+        for (int i = 0; i < rooms.getStageCount(); i++) {
+            int room = rooms.getStageRoom(i);
+            if (roomCounts[room] > 0) {
+                return room;
+            }
+        }
+        return -1;
+    }
+
+    private void checkForAdvanceOrFinish() {
+        if (!active) {
+            return;
+        }
+
+        if (participantCount == 0) {
+            end(Outcome.FAILURE, Collections.emptyList());
+            return;
+        }
+
+        if (typeCounts[RoomType.FINISH.ordinal()] == participantCount) {
+            end(Outcome.SUCCESS, collectParticipantNames());
+            return;
+        }
+
+        if (roomCounts[currentStageRoom] == 0) {
+            advanceStage();
+        }
+    }
+
+    private void eliminateDisconnected(Participant participant) {
+        if (!isMember(participant)) {
+            return;
+        }
+
+        participant.setDisconnectTimer(null);
+        removeParticipant(participant);
+        listener.onDisconnectElimination(participant);
+        checkForAdvanceOrFinish();
+    }
+
+    private void cancelPendingDeath(Participant participant) {
+        TimerWheel.Timer timer = participant.getDeathTimer();
+        if (timer != null) {
+            timer.cancel();
+            participant.setDeathTimer(null);
+            pendingDeathCount--;
+        }
+    }
+
+    private void cancelPendingDisconnect(Participant participant) {
+        TimerWheel.Timer timer = participant.getDisconnectTimer();
+        if (timer != null) {
+            timer.cancel();
+            participant.setDisconnectTimer(null);
+        }
+    }
+
+    private void cancelStageTask() {
+        if (stageTask != null) {
+            stageTask.cancel();
+            stageTask = null;
+        }
+        damagePhase = false;
+    }
+
+    private void cancelPendingAnnouncements() {
+        if (introTask != null) {
+            introTask.cancel();
+            introTask = null;
+        }
+        cancelPendingCountdownStart();
+    }
+
+    private void cancelPendingCountdownStart() {
+        if (pendingCountdownStart != null) {
+            pendingCountdownStart.cancel();
+            pendingCountdownStart = null;
+        }
+    }
+
+    private void end(Outcome outcome, List<String> winners) {
+        if (!active) {
+            return;
+        }
+        active = false;
+
+        Participant[] ended = Arrays.copyOf(participantArray, participantCount);
+
+        cancelStageTask();
+        cancelPendingAnnouncements();
+        clearParticipants();
+        timers.clear();
+
+        listener.onEventEnded(outcome, winners, ended);
+    }
+
+    private List<String> collectParticipantNames() {
+        List<String> names = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            names.add(participantArray[i].getName());
+        }
+        return names;
+    }
+
+    private List<String> collectParticipantsByRoom(int room) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < participantCount; i++) {
+            if (participantArray[i].getRoom() == room) {
+                names.add(participantArray[i].getName());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,24 @@
+package com.foxy.deadOrAlive.game;
+
+import java.util.List;
+
+public interface GameListener {
+
+    void onIntroFinished();
+
+    void onCountdownStarted(int remainingSeconds, int stageDurationSeconds);
+
+    void onCountdownTick(int remainingSeconds, int stageDurationSeconds);
+
+    void onDamageTick(int stageRoom, int damageHearts);
+
+    void onStageChanged(int stageIndex, int stageRoom);
+
+    void onDeathTimerExpired(Participant participant);
+
+    void onParticipantRemoved(Participant participant);
+
+    void onDisconnectElimination(Participant participant);
+
+    void onEventEnded(GameEngine.Outcome outcome, List<String> winners, Participant[] participants);
+}
@@ -0,0 +1,20 @@
+package com.foxy.deadOrAlive.game;
+
+public record GameSettings(int initialTimeSeconds, int timeDecrementSeconds, int damageIntervalSeconds,
+                           int damageHearts, int startDelaySeconds, int deathDelaySeconds) {
+
+    public static final GameSettings DEFAULTS = new GameSettings(120, 10, 1, 1, 3, 2);
+
+    public GameSettings {
+        initialTimeSeconds = Math.max(1, initialTimeSeconds);
+        timeDecrementSeconds = Math.max(0, timeDecrementSeconds);
+        damageIntervalSeconds = Math.max(1, damageIntervalSeconds);
+        damageHearts = Math.max(1, damageHearts);
+        startDelaySeconds = Math.max(0, startDelaySeconds);
+        deathDelaySeconds = Math.max(1, deathDelaySeconds);
+    }
+
+    public int stageDurationSeconds(int stageIndex) {
+        return Math.max(1, initialTimeSeconds - (stageIndex * timeDecrementSeconds));
+    }
+}
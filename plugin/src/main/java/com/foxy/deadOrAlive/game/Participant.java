@@ -0,0 +1,88 @@
+package com.foxy.deadOrAlive.game;
+
+import com.foxy.deadOrAlive.util.TimerWheel;
+
+import java.util.UUID;
+
+public final class Participant {
+
+    private final UUID uuid;
+    private final String name;
+    private int room;
+    private int slot;
+    private double heartsLost;
+    private int slownessTier = -1;
+    private long warningCooldownTick;
+    private TimerWheel.Timer deathTimer;
+    private TimerWheel.Timer disconnectTimer;
+
+    Participant(UUID uuid, String name, int room) {
+        this.uuid = uuid;
+        this.name = name;
+        this.room = room;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRoom() {
+        return room;
+    }
+
+    void setRoom(int room) {
+        this.room = room;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    void setSlot(int slot) {
+        this.slot = slot;
+    }
+
+    public double getHeartsLost() {
+        return heartsLost;
+    }
+
+    void setHeartsLost(double heartsLost) {
+        this.heartsLost = heartsLost;
+    }
+
+    public int getSlownessTier() {
+        return slownessTier;
+    }
+
+    public void setSlownessTier(int slownessTier) {
+        this.slownessTier = slownessTier;
+    }
+
+    public long getWarningCooldownTick() {
+        return warningCooldownTick;
+    }
+
+    public void setWarningCooldownTick(long warningCooldownTick) {
+        this.warningCooldownTick = warningCooldownTick;
+    }
+
+    TimerWheel.Timer getDeathTimer() {
+        return deathTimer;
+    }
+
+    void setDeathTimer(TimerWheel.Timer deathTimer) {
+        this.deathTimer = deathTimer;
+    }
+
+    TimerWheel.Timer getDisconnectTimer() {
+        return disconnectTimer;
+    }
+
+    void setDisconnectTimer(TimerWheel.Timer disconnectTimer) {
+        this.disconnectTimer = disconnectTimer;
+    }
+}
@@ -0,0 +1,285 @@
+package com.foxy.deadOrAlive.game;
+
+import com.foxy.deadOrAlive.profile.Histogram;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class Replay implements GameListener {
+
+    private record Entry(long tick, String type, String[] values) {
+    }
+
+    private final List<Entry> entries;
+    private final RoomGraph rooms;
+    private final GameEngine engine;
+    private final Histogram tickLatency = new Histogram();
+    private final Histogram moveLatency = new Histogram();
+    private final Histogram eliminateLatency = new Histogram();
+    private int cursor;
+    private String divergence;
+    private GameEngine.Outcome outcome;
+
+    private Replay(List<Entry> entries, RoomGraph rooms, GameSettings settings, long seed) {
+        this.entries = entries;
+        this.rooms = rooms;
+        this.engine = new GameEngine(settings, new SplittableRandom(seed), this);
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("Usage: Replay <recording.rec>");
+            return;
+        }
+
+        Path path = Paths.get(args[0]);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            System.err.println("Could not read " + path + ": " + exception.getMessage());
+            return;
+        }
+
+        Map<String, String> header = new HashMap<>();
+        List<Entry> entries = new ArrayList<>();
+        try {
+            for (String line : lines) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.trim().split(" ");
+                if (Character.isDigit(parts[0].charAt(0))) {
+                    String[] values = new String[parts.length - 2];
+                    System.arraycopy(parts, 2, values, 0, values.length);
+                    entries.add(new Entry(Long.parseLong(parts[0]), parts[1], values));
+                } else {
+                    header.put(parts[0], line.substring(parts[0].length()).trim());
+                }
+            }
+        } catch (RuntimeException exception) {
+            System.err.println("Malformed recording " + path + ": " + exception.getMessage());
+            return;
+        }
+
+        Map<String, RoomType> types = new HashMap<>();
+        Map<String, List<String>> destinations = new HashMap<>();
+        if (!header.containsKey("seed") || !header.containsKey("settings") || !header.containsKey("start")
+                || !Simulator.parseLayout(header.getOrDefault("layout", ""), types, destinations)) {
+            System.err.println("Recording " + path + " is missing its seed, settings, layout or start room.");
+            return;
+        }
+
+        long seed = Long.parseLong(header.get("seed"));
+        String[] values = header.get("settings").split(" ");
+        GameSettings settings = new GameSettings(Integer.parseInt(values[0]), Integer.parseInt(values[1]),
+                Integer.parseInt(values[2]), Integer.parseInt(values[3]), Integer.parseInt(values[4]),
+                Integer.parseInt(values[5]));
+        RoomGraph rooms = RoomGraph.of(types);
+        int startRoom = rooms.indexOf(header.get("start"));
+        if (startRoom < 0) {
+            System.err.println("Recording " + path + " starts in unknown room '" + header.get("start") + "'.");
+            return;
+        }
+
+        Replay replay = new Replay(entries, rooms, settings, seed);
+        long started = System.nanoTime();
+        try {
+            replay.run(startRoom);
+        } catch (RuntimeException exception) {
+            replay.divergence = "malformed input: " + exception.getMessage();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        System.out.printf(Locale.ROOT, "Replayed %s (seed %d): %d of %d inputs over %d ticks in %.2f ms%n",
+                path.getFileName(), seed, replay.cursor, entries.size(), replay.engine.getCurrentTick(), elapsed / 1_000_000.0);
+        if (replay.divergence != null) {
+            System.out.println("Diverged: " + replay.divergence);
+        } else {
+            System.out.println("Outcome: " + replay.outcome + " (matches the recording)");
+        }
+        Simulator.printLatency("busy tick", replay.tickLatency);
+        Simulator.printLatency("move", replay.moveLatency);
+        Simulator.printLatency("eliminate", replay.eliminateLatency);
+    }
+
+    private void run(int startRoom) {
+        engine.start(rooms, startRoom);
+        while (cursor < entries.size() && divergence == null) {
+            Entry entry = entries.get(cursor);
+            if (entry.tick() > engine.getCurrentTick()) {
+                if (!engine.isActive()) {
+                    divergence = "the game ended at tick " + engine.getCurrentTick() + " but the recording continues";
+                    return;
+                }
+                long tickStarted = System.nanoTime();
+                if (engine.tick() > 0) {
+                    tickLatency.record(System.nanoTime() - tickStarted);
+                }
+                continue;
+            }
+            cursor++;
+            apply(entry);
+        }
+    }
+
+    private void apply(Entry entry) {
+        String[] values = entry.values();
+        switch (entry.type()) {
+            case "join" -> engine.join(UUID.fromString(values[0]), values[1], room(values[2]));
+            case "intro" -> engine.beginIntro();
+            case "pad" -> {
+                List<String> candidates = RoomGraph.getDestinationCandidates(values[1]);
+                String resolved = candidates.get(engine.choose(candidates.size()));
+                if (!resolved.equals(values[2])) {
+                    diverge(entry, "pad resolved to " + resolved + " instead of " + values[2]);
+                }
+            }
+            case "move" -> {
+                Participant participant = participant(values[0]);
+                if (participant != null) {
+                    long started = System.nanoTime();
+                    engine.moveParticipant(participant, room(values[1]));
+                    moveLatency.record(System.nanoTime() - started);
+                }
+            }
+            case "damage" -> {
+                Participant participant = participant(values[0]);
+                if (participant != null) {
+                    engine.recordDamage(participant, Double.parseDouble(values[1]));
+                }
+            }
+            case "death" -> {
+                Participant participant = participant(values[0]);
+                if (participant != null) {
+                    long started = System.nanoTime();
+                    engine.eliminate(participant);
+                    eliminateLatency.record(System.nanoTime() - started);
+                }
+            }
+            case "quit" -> {
+                Participant participant = participant(values[0]);
+                if (participant != null) {
+                    engine.disconnect(participant);
+                }
+            }
+            case "rejoin" -> {
+                Participant participant = participant(values[0]);
+                if (participant != null) {
+                    engine.reconnect(participant);
+                }
+            }
+            case "end" -> {
+                GameEngine.Outcome expected = GameEngine.Outcome.valueOf(values[0]);
+                if (expected == GameEngine.Outcome.ABORTED) {
+                    engine.stop();
+                }
+                if (outcome != expected) {
+                    diverge(entry, "the game ended with " + outcome + " instead of " + expected);
+                }
+            }
+            default -> diverge(entry, "the engine never fired '" + entry.type() + "'");
+        }
+    }
+
+    private boolean expect(String type, String value) {
+        if (divergence != null) {
+            return false;
+        }
+        Entry entry = cursor < entries.size() ? entries.get(cursor) : null;
+        if (entry == null || entry.tick() != engine.getCurrentTick() || !entry.type().equals(type)
+                || (value != null && (entry.values().length == 0 || !entry.values()[0].equals(value)))) {
+            divergence = "the engine fired '" + type + "' at tick " + engine.getCurrentTick() + " but the recording has "
+                    + (entry == null ? "no more inputs" : "'" + entry.type() + "' at tick " + entry.tick());
+            return false;
+        }
+        cursor++;
+        return true;
+    }
+
+    private void applyUntilDone() {
+        while (cursor < entries.size() && divergence == null) {
+            Entry entry = entries.get(cursor++);
+            if (entry.type().equals("done")) {
+                return;
+            }
+            apply(entry);
+            if (entry.type().equals("end")) {
+                return;
+            }
+        }
+    }
+
+    private void diverge(Entry entry, String reason) {
+        if (divergence == null) {
+            divergence = "tick " + entry.tick() + ": " + reason;
+        }
+    }
+
+    private Participant participant(String uuid) {
+        return engine.getParticipant(UUID.fromString(uuid));
+    }
+
+    private int room(String roomId) {
+        int room = rooms.indexOf(roomId);
+        if (room < 0) {
+            throw new IllegalArgumentException("Unknown room '" + roomId + "' in recording.");
+        }
+        return room;
+    }
+
+    @Override
+    public void onIntroFinished() {
+    }
+
+    @Override
+    public void onCountdownStarted(int remainingSeconds, int stageDurationSeconds) {
+    }
+
+    @Override
+    public void onCountdownTick(int remainingSeconds, int stageDurationSeconds) {
+    }
+
+    @Override
+    public void onDamageTick(int stageRoom, int damageHearts) {
+        if (expect("damage-tick", null)) {
+            applyUntilDone();
+        }
+    }
+
+    @Override
+    public void onStageChanged(int stageIndex, int stageRoom) {
+    }
+
+    @Override
+    public void onDeathTimerExpired(Participant participant) {
+        if (expect("expire", participant.getUuid().toString())) {
+            applyUntilDone();
+        }
+    }
+
+    @Override
+    public void onParticipantRemoved(Participant participant) {
+    }
+
+    @Override
+    public void onDisconnectElimination(Participant participant) {
+    }
+
+    @Override
+    public void onEventEnded(GameEngine.Outcome outcome, List<String> winners, Participant[] participants) {
+        this.outcome = outcome;
+    }
+}
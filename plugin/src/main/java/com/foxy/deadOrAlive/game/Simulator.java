@@ -0,0 +1,303 @@
+package com.foxy.deadOrAlive.game;
+
+import com.foxy.deadOrAlive.profile.Histogram;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomType;
+import com.foxy.deadOrAlive.util.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class Simulator implements GameListener {
+
+    private static final String DEFAULT_LAYOUT = "room_1:home>room_2,room_4;room_2:safe>room_3,room_5;"
+            + "room_3:safe>room_6,room_death;room_4:dead;room_5:dead;room_6:safe>room_5,room_7;"
+            + "room_7:safe>room_death,room_8;room_8:safe>room_5,room_9;room_9:finish";
+    private static final double MAX_HEARTS = 10.0D;
+
+    private final RoomGraph rooms;
+    private final int[][][] pads;
+    private final int startRoom;
+    private final double disconnectChance;
+    private final GameEngine engine;
+    private final TimerWheel bots = new TimerWheel();
+    private final List<Participant> eliminated = new ArrayList<>();
+
+    private final Histogram tickLatency = new Histogram();
+    private final Histogram moveLatency = new Histogram();
+    private final Histogram eliminateLatency = new Histogram();
+    private final long[] outcomes = new long[GameEngine.Outcome.values().length];
+    private long timeouts;
+    private long moves;
+    private long eliminations;
+    private long stagesReached;
+    private long winners;
+    private long simulatedTicks;
+
+    private Simulator(RoomGraph rooms, Map<String, List<String>> destinations, int startRoom,
+                      GameSettings settings, double disconnectChance) {
+        this.rooms = rooms;
+        this.startRoom = startRoom;
+        this.disconnectChance = disconnectChance;
+        this.engine = new GameEngine(settings, new SplittableRandom(0L), this);
+        this.pads = new int[rooms.size()][][];
+        for (int room = 0; room < rooms.size(); room++) {
+            List<String> targets = destinations.getOrDefault(rooms.getId(room), List.of());
+            pads[room] = new int[targets.size()][];
+            for (int pad = 0; pad < targets.size(); pad++) {
+                pads[room][pad] = RoomGraph.getDestinationCandidates(targets.get(pad)).stream()
+                        .mapToInt(rooms::indexOf)
+                        .filter(index -> index >= 0)
+                        .toArray();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                printUsage();
+                return;
+            }
+            options.put(args[i].substring(2).toLowerCase(Locale.ROOT), args[++i]);
+        }
+
+        int games;
+        int players;
+        long seed;
+        long maxTicks;
+        double disconnectChance;
+        GameSettings settings;
+        try {
+            games = Integer.parseInt(options.getOrDefault("games", "10000"));
+            players = Integer.parseInt(options.getOrDefault("players", "100"));
+            seed = Long.parseLong(options.getOrDefault("seed", "1"));
+            maxTicks = Long.parseLong(options.getOrDefault("max-ticks", "72000"));
+            disconnectChance = Double.parseDouble(options.getOrDefault("disconnect-chance", "0.01"));
+            settings = new GameSettings(
+                    Integer.parseInt(options.getOrDefault("initial-time", "120")),
+                    Integer.parseInt(options.getOrDefault("time-decrement", "10")),
+                    Integer.parseInt(options.getOrDefault("damage-interval", "1")),
+                    Integer.parseInt(options.getOrDefault("damage-hearts", "1")),
+                    Integer.parseInt(options.getOrDefault("start-delay", "3")),
+                    Integer.parseInt(options.getOrDefault("death-delay", "2")));
+        } catch (NumberFormatException exception) {
+            System.err.println("Invalid number: " + exception.getMessage());
+            printUsage();
+            return;
+        }
+
+        Map<String, RoomType> types = new HashMap<>();
+        Map<String, List<String>> destinations = new HashMap<>();
+        if (!parseLayout(options.getOrDefault("layout", DEFAULT_LAYOUT), types, destinations)) {
+            printUsage();
+            return;
+        }
+
+        RoomGraph rooms = RoomGraph.of(types);
+        int startRoom = rooms.indexOf(options.getOrDefault("start", "room_1"));
+        if (startRoom < 0) {
+            System.err.println("The layout has no start room '" + options.getOrDefault("start", "room_1") + "'.");
+            return;
+        }
+
+        Simulator simulator = new Simulator(rooms, destinations, startRoom, settings, Math.max(0.0, disconnectChance));
+        long started = System.nanoTime();
+        simulator.run(games, players, seed, maxTicks);
+        simulator.report(games, players, seed, System.nanoTime() - started);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: Simulator [--games 10000] [--players 100] [--seed 1] [--max-ticks 72000]"
+                + " [--disconnect-chance 0.01] [--layout room:type>dest,dest;...] [--start room_1]"
+                + " [--initial-time 120] [--time-decrement 10] [--damage-interval 1] [--damage-hearts 1]"
+                + " [--start-delay 3] [--death-delay 2]");
+    }
+
+    static boolean parseLayout(String layout, Map<String, RoomType> types, Map<String, List<String>> destinations) {
+        for (String entry : layout.split(";")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split(">", 2);
+            String[] room = parts[0].split(":", 2);
+            if (room.length != 2) {
+                System.err.println("Invalid layout entry '" + trimmed + "', expected room:type>destination,...");
+                return false;
+            }
+            String id = room[0].trim().toLowerCase(Locale.ROOT);
+            types.put(id, RoomType.fromString(room[1]));
+            List<String> targets = new ArrayList<>();
+            if (parts.length > 1) {
+                for (String target : parts[1].split(",")) {
+                    if (!target.isBlank()) {
+                        targets.add(target.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            destinations.put(id, targets);
+        }
+        return !types.isEmpty();
+    }
+
+    private void run(int games, int players, long seed, long maxTicks) {
+        UUID[] uuids = new UUID[players];
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            uuids[i] = new UUID(seed, i);
+            names[i] = "bot-" + i;
+        }
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int game = 0; game < games; game++) {
+            engine.setRandom(seeds.split());
+            engine.start(rooms, startRoom);
+            for (int i = 0; i < players; i++) {
+                engine.join(uuids[i], names[i], startRoom);
+            }
+            engine.beginIntro();
+
+            long ticks = 0L;
+            while (engine.isActive() && ticks < maxTicks) {
+                long tickStarted = System.nanoTime();
+                if (bots.tick() + engine.tick() > 0) {
+                    tickLatency.record(System.nanoTime() - tickStarted);
+                }
+                ticks++;
+            }
+            simulatedTicks += ticks;
+            if (engine.isActive()) {
+                timeouts++;
+                engine.stop();
+            }
+            bots.clear();
+        }
+    }
+
+    private void report(int games, int players, long seed, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long finished = games - timeouts;
+        System.out.printf(Locale.ROOT, "Simulated %d games of %d players (seed %d) in %.2f s%n", games, players, seed, seconds);
+        System.out.printf(Locale.ROOT, "Throughput: %.1f games/s, %.0f ticks/s, %.0f transitions/s%n",
+                games / seconds, simulatedTicks / seconds, (moves + eliminations) / seconds);
+        System.out.printf(Locale.ROOT, "Outcomes: %d success, %d failure, %d timed out%n",
+                outcomes[GameEngine.Outcome.SUCCESS.ordinal()], outcomes[GameEngine.Outcome.FAILURE.ordinal()], timeouts);
+        if (finished > 0) {
+            System.out.printf(Locale.ROOT, "Per game: %.2f stages reached, %.2f winners, %.1f simulated seconds%n",
+                    stagesReached / (double) finished, winners / (double) finished, simulatedTicks / 20.0 / games);
+        }
+        printLatency("busy tick", tickLatency);
+        printLatency("move", moveLatency);
+        printLatency("eliminate", eliminateLatency);
+    }
+
+    static void printLatency(String label, Histogram histogram) {
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        System.out.printf(Locale.ROOT, "Latency %-10s n=%d p50=%.2fus p99=%.2fus max=%.2fus mean=%.2fus%n", label,
+                snapshot.getCount(), snapshot.getPercentile(50.0) / 1_000.0, snapshot.getPercentile(99.0) / 1_000.0,
+                snapshot.getMax() / 1_000.0, snapshot.getMean() / 1_000.0);
+    }
+
+    private void move(Participant participant) {
+        if (engine.getParticipant(participant.getUuid()) != participant || participant.getRoom() != engine.getStageRoom()) {
+            return;
+        }
+
+        if (engine.getRandom().nextDouble() < disconnectChance) {
+            engine.disconnect(participant);
+            return;
+        }
+
+        int[][] roomPads = pads[participant.getRoom()];
+        if (roomPads.length == 0) {
+            return;
+        }
+        int[] candidates = roomPads[engine.choose(roomPads.length)];
+        if (candidates.length == 0) {
+            return;
+        }
+
+        int destination = candidates[engine.choose(candidates.length)];
+        long started = System.nanoTime();
+        engine.moveParticipant(participant, destination);
+        moveLatency.record(System.nanoTime() - started);
+        moves++;
+    }
+
+    private void eliminate(Participant participant) {
+        long started = System.nanoTime();
+        engine.eliminate(participant);
+        eliminateLatency.record(System.nanoTime() - started);
+        eliminations++;
+    }
+
+    @Override
+    public void onIntroFinished() {
+    }
+
+    @Override
+    public void onCountdownStarted(int remainingSeconds, int stageDurationSeconds) {
+        int stageRoom = engine.getStageRoom();
+        int window = Math.max(1, remainingSeconds * 25);
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Participant participant = engine.getParticipant(i);
+            if (participant.getRoom() == stageRoom) {
+                bots.schedule(1L + engine.getRandom().nextInt(window), () -> move(participant));
+            }
+        }
+    }
+
+    @Override
+    public void onCountdownTick(int remainingSeconds, int stageDurationSeconds) {
+    }
+
+    @Override
+    public void onDamageTick(int stageRoom, int damageHearts) {
+        for (int i = 0; i < engine.getParticipantCount(); i++) {
+            Participant participant = engine.getParticipant(i);
+            if (participant.getRoom() == stageRoom && participant.getDisconnectTimer() == null
+                    && engine.recordDamage(participant, damageHearts) >= MAX_HEARTS) {
+                eliminated.add(participant);
+            }
+        }
+        for (Participant participant : eliminated) {
+            eliminate(participant);
+        }
+        eliminated.clear();
+    }
+
+    @Override
+    public void onStageChanged(int stageIndex, int stageRoom) {
+    }
+
+    @Override
+    public void onDeathTimerExpired(Participant participant) {
+        eliminate(participant);
+    }
+
+    @Override
+    public void onParticipantRemoved(Participant participant) {
+    }
+
+    @Override
+    public void onDisconnectElimination(Participant participant) {
+        eliminations++;
+    }
+
+    @Override
+    public void onEventEnded(GameEngine.Outcome outcome, List<String> winners, Participant[] participants) {
+        if (outcome == GameEngine.Outcome.ABORTED) {
+            return;
+        }
+        outcomes[outcome.ordinal()]++;
+        stagesReached += engine.getStageIndex();
+        this.winners += winners.size();
+    }
+}
@@ -109,11 +109,11 @@ public class LobbySelectionManager implements Listener {
                 return;
             }
 
-            player.sendMessage(plugin.getMessageManager().getMessage("setlobby-success")
-                    .replace("%world%", block.getWorld() != null ? block.getWorld().getName() : "")
-                    .replace("%x%", String.valueOf(block.getX()))
-                    .replace("%y%", String.valueOf(block.getY()))
-                    .replace("%z%", String.valueOf(block.getZ())));
+            player.sendMessage(plugin.getMessageManager().getMessage("setlobby-success",
+                    "%world%", block.getWorld() != null ? block.getWorld().getName() : "",
+                    "%x%", String.valueOf(block.getX()),
+                    "%y%", String.valueOf(block.getY()),
+                    "%z%", String.valueOf(block.getZ())));
         } finally {
             processingSelections.remove(uuid);
         }
@@ -0,0 +1,228 @@
+package com.foxy.deadOrAlive.message;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.cache.FileStamp;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.profile.Probe;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class MessageManager {
+
+    private static final String PREFIX_PATH = "prefix";
+
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final String[] SUPPORTED_LANGUAGES = {"en", "es"};
+
+    private final DeadOrAlive plugin;
+    private final File messagesFolder;
+    private volatile MessagePack pack;
+
+    public MessageManager(DeadOrAlive plugin) {
+        this.plugin = plugin;
+        this.messagesFolder = new File(plugin.getDataFolder(), "messages");
+        saveDefaultMessages();
+        reload();
+    }
+
+    private void saveDefaultMessages() {
+        if (!messagesFolder.exists() && !messagesFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create messages folder.");
+            return;
+        }
+
+        for (String language : SUPPORTED_LANGUAGES) {
+            File languageFile = new File(messagesFolder, language + ".yml");
+            if (!languageFile.exists()) {
+                plugin.saveResource("messages/" + language + ".yml", false);
+            }
+        }
+    }
+
+    public void reload() {
+        File file = resolveMessageFile(plugin.getConfig().getString("lang", DEFAULT_LANGUAGE));
+        MessagePack cached = plugin.getLayoutCache().getMessages(file);
+        if (cached == null) {
+            StampedConfiguration loaded = StampedConfiguration.loadOrEmpty(file, plugin.getLogger());
+            cached = compile(file, loaded.configuration(), loaded.stamp());
+        }
+        apply(cached);
+    }
+
+    public void apply(MessagePack pack) {
+        this.pack = pack;
+    }
+
+    public static MessagePack compile(File file, FileConfiguration configuration, FileStamp stamp) {
+        String rawPrefix = configuration.getString(PREFIX_PATH, "");
+        if (rawPrefix == null) {
+            rawPrefix = "";
+        }
+
+        Map<String, String> raw = new HashMap<>();
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (String path : configuration.getKeys(true)) {
+            if (configuration.isConfigurationSection(path)) {
+                continue;
+            }
+            String message = configuration.getString(path, "");
+            if (message != null) {
+                raw.put(path, message);
+            }
+            message = message == null ? "" : message.replace("%prefix%", rawPrefix);
+            compiled.put(path, MessageTemplate.compile(ChatColor.translateAlternateColorCodes('&', message)));
+        }
+
+        return new MessagePack(file, configuration, Map.copyOf(raw), Map.copyOf(compiled),
+                ChatColor.translateAlternateColorCodes('&', rawPrefix), stamp);
+    }
+
+    public static MessagePack restore(File file, Map<String, String> raw, Map<String, MessageTemplate> templates,
+                                      String prefix, FileStamp stamp) {
+        return new MessagePack(file, null, Map.copyOf(raw), Map.copyOf(templates), prefix == null ? "" : prefix, stamp);
+    }
+
+    public boolean save() {
+        MessagePack current = pack;
+        if (current == null) {
+            return false;
+        }
+
+        FileConfiguration configuration = current.configuration != null
+                ? current.configuration
+                : YamlConfiguration.loadConfiguration(current.file);
+        try {
+            configuration.save(current.file);
+            return true;
+        } catch (IOException exception) {
+            plugin.getLogger().severe("Could not save " + current.file.getName() + ": " + exception.getMessage());
+            return false;
+        }
+    }
+
+    public String getMessage(String path) {
+        long started = plugin.getProfiler().begin();
+        String message = getTemplate(path).getText();
+        plugin.getProfiler().end(Probe.MESSAGE_RENDER, started);
+        return message;
+    }
+
+    public String getMessage(String path, String... replacements) {
+        long started = plugin.getProfiler().begin();
+        String message = getTemplate(path).render(replacements);
+        plugin.getProfiler().end(Probe.MESSAGE_RENDER, started);
+        return message;
+    }
+
+    public MessageTemplate getTemplate(String path) {
+        MessagePack current = pack;
+        if (current == null) {
+            return MessageTemplate.compile(ChatColor.translateAlternateColorCodes('&', "&cMessages file not loaded."));
+        }
+
+        MessageTemplate template = current.templates.get(path);
+        if (template == null) {
+            return MessageTemplate.compile(ChatColor.translateAlternateColorCodes('&', "&cMessage not found: " + path));
+        }
+        return template;
+    }
+
+    public MessagePack getPack() {
+        return pack;
+    }
+
+    public File getFile() {
+        MessagePack current = pack;
+        return current == null ? null : current.file;
+    }
+
+    public String getPrefix() {
+        MessagePack current = pack;
+        return current == null ? "" : current.prefix;
+    }
+
+    public String getRaw(String path) {
+        MessagePack current = pack;
+        if (current == null) {
+            return "";
+        }
+
+        String value = current.getRaw(path);
+        return value == null ? "" : value;
+    }
+
+    public File resolveMessageFile(String configuredLanguage) {
+        if (configuredLanguage == null) {
+            configuredLanguage = DEFAULT_LANGUAGE;
+        }
+
+        String normalized = configuredLanguage.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            normalized = DEFAULT_LANGUAGE;
+        }
+
+        File languageFile = new File(messagesFolder, normalized + ".yml");
+        if (!languageFile.exists()) {
+            if (!DEFAULT_LANGUAGE.equals(normalized)) {
+                plugin.getLogger().warning("Messages file for language '" + normalized + "' not found. Falling back to '" + DEFAULT_LANGUAGE + "'.");
+            }
+            normalized = DEFAULT_LANGUAGE;
+            languageFile = new File(messagesFolder, normalized + ".yml");
+            if (!languageFile.exists()) {
+                plugin.saveResource("messages/" + normalized + ".yml", false);
+            }
+        }
+
+        return languageFile;
+    }
+
+    public static final class MessagePack {
+        private final File file;
+        private final FileConfiguration configuration;
+        private final Map<String, String> raw;
+        private final Map<String, MessageTemplate> templates;
+        private final String prefix;
+        private final FileStamp stamp;
+
+        private MessagePack(File file, FileConfiguration configuration, Map<String, String> raw,
+                            Map<String, MessageTemplate> templates, String prefix, FileStamp stamp) {
+            this.file = file;
+            this.configuration = configuration;
+            this.raw = raw;
+            this.templates = templates;
+            this.prefix = prefix;
+            this.stamp = stamp;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public FileStamp getFileStamp() {
+            return stamp;
+        }
+
+        public String getRaw(String path) {
+            return raw.get(path);
+        }
+
+        public Map<String, MessageTemplate> getTemplates() {
+            return templates;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public int getTemplateCount() {
+            return templates.size();
+        }
+    }
+}
\ No newline at end of file
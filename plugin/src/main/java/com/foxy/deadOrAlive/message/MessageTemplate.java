@@ -0,0 +1,120 @@
+package com.foxy.deadOrAlive.message;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class MessageTemplate {
+
+    private static final String[] NO_PLACEHOLDERS = new String[0];
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final String text;
+    private final String[] literals;
+    private final int[] slots;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private MessageTemplate(String text, String[] literals, int[] slots, String[] placeholders) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MessageTemplate compile(String text) {
+        if (text == null) {
+            text = "";
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int index = text.indexOf('%');
+        while (index >= 0) {
+            int end = findPlaceholderEnd(text, index);
+            if (end < 0) {
+                index = text.indexOf('%', index + 1);
+                continue;
+            }
+
+            String placeholder = text.substring(index, end + 1);
+            int slot = placeholders.indexOf(placeholder);
+            if (slot < 0) {
+                slot = placeholders.size();
+                placeholders.add(placeholder);
+            }
+            literals.add(text.substring(literalStart, index));
+            slots.add(slot);
+            literalStart = end + 1;
+            index = text.indexOf('%', literalStart);
+        }
+        literals.add(text.substring(literalStart));
+
+        if (slots.isEmpty()) {
+            return new MessageTemplate(text, new String[]{text}, NO_SLOTS, NO_PLACEHOLDERS);
+        }
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new MessageTemplate(text, literals.toArray(new String[0]), slotArray, placeholders.toArray(new String[0]));
+    }
+
+    private static int findPlaceholderEnd(String text, int start) {
+        for (int i = start + 1; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '%') {
+                return i > start + 1 ? i : -1;
+            }
+            if (!Character.isLetterOrDigit(character) && character != '_' && character != '-') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean hasPlaceholders() {
+        return slots.length > 0;
+    }
+
+    public String render(String... replacements) {
+        if (slots.length == 0 || replacements == null || replacements.length < 2) {
+            return text;
+        }
+
+        String[] values = new String[placeholders.length];
+        int valueLength = 0;
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            String placeholder = replacements[i];
+            for (int slot = 0; slot < placeholders.length; slot++) {
+                if (placeholders[slot].equals(placeholder)) {
+                    String value = replacements[i + 1];
+                    values[slot] = value == null ? "" : value;
+                    valueLength += values[slot].length();
+                    break;
+                }
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + valueLength * 2 + 16);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            String value = values[slots[i]];
+            builder.append(value == null ? placeholders[slots[i]] : value);
+        }
+        builder.append(literals[slots.length]);
+        return builder.toString();
+    }
+}
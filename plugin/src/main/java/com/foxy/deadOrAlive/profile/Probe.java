@@ -0,0 +1,22 @@
+package com.foxy.deadOrAlive.profile;
+
+public enum Probe {
+    PLAYER_MOVE("player-move"),
+    PARTICIPANT_DAMAGE("participant-damage"),
+    PLAYERS_FILE_SAVE("players-file-save"),
+    PLAYERS_FILE_WRITE("players-file-write"),
+    BOSSBAR_UPDATE("bossbar-update"),
+    COUNTDOWN_TICK("countdown-tick"),
+    DAMAGE_TICK("damage-tick"),
+    MESSAGE_RENDER("message-render");
+
+    private final String displayName;
+
+    Probe(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,152 @@
+package com.foxy.deadOrAlive.profile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class Profiler {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final File outputFolder;
+    private final Histogram[] histograms = new Histogram[Probe.values().length];
+    private volatile boolean enabled;
+    private long startedAt;
+    private long stoppedAt;
+
+    public Profiler(File outputFolder) {
+        this.outputFolder = outputFolder;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    public long begin() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void end(Probe probe, long started) {
+        if (started != 0L) {
+            histograms[probe.ordinal()].record(System.nanoTime() - started);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean start() {
+        if (enabled) {
+            return false;
+        }
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+        startedAt = System.nanoTime();
+        stoppedAt = 0L;
+        enabled = true;
+        return true;
+    }
+
+    public boolean stop() {
+        if (!enabled) {
+            return false;
+        }
+        enabled = false;
+        stoppedAt = System.nanoTime();
+        return true;
+    }
+
+    public List<Summary> summarize() {
+        List<Summary> summaries = new ArrayList<>();
+        for (Probe probe : Probe.values()) {
+            Histogram.Snapshot snapshot = histograms[probe.ordinal()].snapshot();
+            if (snapshot.getCount() == 0) {
+                continue;
+            }
+            summaries.add(new Summary(probe, snapshot.getCount(), snapshot.getPercentile(50.0),
+                    snapshot.getPercentile(90.0), snapshot.getPercentile(99.0), snapshot.getMax(), snapshot.getMean()));
+        }
+        return summaries;
+    }
+
+    public File writeCsv(List<Summary> summaries) throws IOException {
+        if (!outputFolder.exists() && !outputFolder.mkdirs()) {
+            throw new IOException("Could not create " + outputFolder.getPath());
+        }
+
+        long end = stoppedAt == 0L ? System.nanoTime() : stoppedAt;
+        double seconds = startedAt == 0L ? 0.0 : (end - startedAt) / 1_000_000_000.0;
+        List<String> lines = new ArrayList<>();
+        lines.add("probe,count,calls_per_second,p50_us,p90_us,p99_us,max_us,mean_us");
+        for (Summary summary : summaries) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    summary.getProbe().getDisplayName(), summary.getCount(),
+                    seconds <= 0.0 ? 0.0 : summary.getCount() / seconds,
+                    toMicros(summary.getP50()), toMicros(summary.getP90()), toMicros(summary.getP99()),
+                    toMicros(summary.getMax()), summary.getMean() / 1_000.0));
+        }
+
+        File file = new File(outputFolder, "profile-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv");
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    public static double toMicros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    public static class Summary {
+        private final Probe probe;
+        private final long count;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+        private final double mean;
+
+        private Summary(Probe probe, long count, long p50, long p90, long p99, long max, double mean) {
+            this.probe = probe;
+            this.count = count;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+            this.mean = mean;
+        }
+
+        public Probe getProbe() {
+            return probe;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+    }
+}
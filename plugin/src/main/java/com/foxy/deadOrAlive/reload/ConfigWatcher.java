@@ -0,0 +1,250 @@
+package com.foxy.deadOrAlive.reload;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.message.MessageManager;
+import com.foxy.deadOrAlive.message.MessageManager.MessagePack;
+import com.foxy.deadOrAlive.room.RoomManager;
+import com.foxy.deadOrAlive.room.RoomManager.RoomData;
+import com.foxy.deadOrAlive.teleport.TeleportManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.configuration.InvalidConfigurationException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ConfigWatcher {
+
+    private static final String ROOMS_FILE = "rooms.yml";
+    private static final String TELEPORTS_FILE = "teleports.yml";
+
+    private final DeadOrAlive plugin;
+    private final Path dataFolder;
+    private final Path messagesFolder;
+    private final Path arenasFolder;
+    private WatchService service;
+    private Thread thread;
+
+    public ConfigWatcher(DeadOrAlive plugin) {
+        this.plugin = plugin;
+        this.dataFolder = plugin.getDataFolder().toPath().toAbsolutePath();
+        this.messagesFolder = dataFolder.resolve("messages");
+        this.arenasFolder = dataFolder.resolve("arenas");
+    }
+
+    public void sync() {
+        boolean enabled = plugin.getConfig().getBoolean("reload.watch", false);
+        if (enabled && thread == null) {
+            start();
+        } else if (!enabled && thread != null) {
+            stop();
+        }
+    }
+
+    public void stop() {
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException exception) {
+                plugin.getLogger().warning("Could not close the config watcher: " + exception.getMessage());
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+        service = null;
+        thread = null;
+    }
+
+    private void start() {
+        WatchService watchService = null;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            register(watchService, dataFolder);
+            register(watchService, messagesFolder);
+            if (Files.isDirectory(arenasFolder)) {
+                register(watchService, arenasFolder);
+                try (DirectoryStream<Path> folders = Files.newDirectoryStream(arenasFolder, Files::isDirectory)) {
+                    for (Path folder : folders) {
+                        register(watchService, folder);
+                    }
+                }
+            }
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Could not start the config watcher: " + exception.getMessage());
+            closeQuietly(watchService);
+            return;
+        }
+
+        long debounceMillis = Math.max(50L, plugin.getConfig().getLong("reload.watch-debounce-ms", 500L));
+        service = watchService;
+        WatchService started = watchService;
+        thread = new Thread(() -> run(started, debounceMillis), "DeadOrAlive-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        plugin.getLogger().info("Watching rooms, teleports and messages files for changes.");
+    }
+
+    private static void closeQuietly(WatchService watchService) {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+            // The watcher never started, nothing else to release.
+        }
+    }
+
+    private void register(WatchService watchService, Path folder) throws IOException {
+        if (Files.isDirectory(folder)) {
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+    }
+
+    private void run(WatchService watchService, long debounceMillis) {
+        Map<Path, Long> pending = new HashMap<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long now = System.currentTimeMillis();
+                long timeout = 1000L;
+                for (long deadline : pending.values()) {
+                    timeout = Math.max(1L, Math.min(timeout, deadline - now));
+                }
+
+                WatchKey key = watchService.poll(timeout, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    Path folder = (Path) key.watchable();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            continue;
+                        }
+                        Path changed = folder.resolve((Path) event.context());
+                        if (folder.equals(arenasFolder) && Files.isDirectory(changed)) {
+                            register(watchService, changed);
+                        } else if (isWatchedFile(folder, changed)) {
+                            pending.put(changed, System.currentTimeMillis() + debounceMillis);
+                        }
+                    }
+                    key.reset();
+                }
+
+                now = System.currentTimeMillis();
+                Iterator<Map.Entry<Path, Long>> iterator = pending.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Path, Long> entry = iterator.next();
+                    if (entry.getValue() <= now) {
+                        iterator.remove();
+                        reload(entry.getKey());
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException exception) {
+            Thread.currentThread().interrupt();
+        } catch (IOException exception) {
+            plugin.getLogger().warning("Config watcher stopped: " + exception.getMessage());
+        }
+    }
+
+    private boolean isWatchedFile(Path folder, Path file) {
+        String name = file.getFileName().toString();
+        if (folder.equals(messagesFolder)) {
+            return name.endsWith(".yml");
+        }
+        return name.equals(ROOMS_FILE) || name.equals(TELEPORTS_FILE);
+    }
+
+    private Arena arenaFor(Path folder) {
+        if (folder.equals(dataFolder)) {
+            return plugin.getArenaManager().getDefaultArena();
+        }
+        if (arenasFolder.equals(folder.getParent())) {
+            Arena arena = plugin.getArenaManager().getArena(folder.getFileName().toString());
+            return arena != null && !arena.isDefault() ? arena : null;
+        }
+        return null;
+    }
+
+    private void reload(Path path) {
+        Path folder = path.getParent();
+        String label = dataFolder.relativize(path).toString().replace(File.separatorChar, '/');
+        File file = path.toFile();
+        if (!file.isFile()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            if (folder.equals(messagesFolder)) {
+                File active = plugin.getMessageManager().getFile();
+                if (active == null || !active.getAbsoluteFile().toPath().equals(path)) {
+                    return;
+                }
+                StampedConfiguration loaded = StampedConfiguration.load(file);
+                MessagePack pack = MessageManager.compile(file, loaded.configuration(), loaded.stamp());
+                long parsed = System.nanoTime() - started;
+                apply(() -> {
+                    plugin.getMessageManager().apply(pack);
+                    logReload(label, parsed, pack.getTemplateCount() + " messages");
+                });
+                return;
+            }
+
+            Arena arena = arenaFor(folder);
+            if (arena == null) {
+                return;
+            }
+
+            StampedConfiguration loaded = StampedConfiguration.load(file);
+            if (path.getFileName().toString().equals(ROOMS_FILE)) {
+                Map<String, RoomData> rooms = RoomManager.parseRooms(loaded.configuration());
+                long parsed = System.nanoTime() - started;
+                apply(() -> {
+                    arena.getRoomManager().apply(loaded.configuration(), loaded.stamp(), rooms);
+                    logReload(label, parsed, rooms.size() + " rooms");
+                });
+            } else {
+                Map<String, Map<String, TeleportPoint>> teleports = TeleportManager.parseTeleports(arena, loaded.configuration());
+                long parsed = System.nanoTime() - started;
+                apply(() -> {
+                    TeleportManager teleportManager = arena.getTeleportManager();
+                    Map<String, Map<String, TeleportPoint>> previous = teleportManager.getTeleports();
+                    teleportManager.apply(loaded.configuration(), loaded.stamp(), teleports);
+                    int changed = plugin.getArenaManager().updatePads(previous, teleportManager.getTeleports());
+                    logReload(label, parsed, changed + " pad index entries changed");
+                });
+            }
+        } catch (IOException | InvalidConfigurationException exception) {
+            plugin.getLogger().warning("Ignoring the change to " + label + " until it is valid: " + exception.getMessage());
+        }
+    }
+
+    private void apply(Runnable swap) {
+        if (plugin.isEnabled()) {
+            plugin.getTaskScheduler().runGlobal(() -> {
+                swap.run();
+                plugin.getLayoutCache().rebuild();
+            });
+        }
+    }
+
+    private void logReload(String label, long parseNanos, String detail) {
+        plugin.getLogger().info("Reloaded " + label + " in " + String.format(Locale.ROOT, "%.1f", parseNanos / 1_000_000.0)
+                + " ms (" + detail + ").");
+    }
+}
@@ -0,0 +1,254 @@
+package com.foxy.deadOrAlive.reload;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.message.MessageManager;
+import com.foxy.deadOrAlive.message.MessageManager.MessagePack;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.room.RoomManager;
+import com.foxy.deadOrAlive.room.RoomManager.RoomData;
+import com.foxy.deadOrAlive.teleport.TeleportManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReloadManager {
+
+    private final DeadOrAlive plugin;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ExecutorService workers;
+
+    public ReloadManager(DeadOrAlive plugin) {
+        this.plugin = plugin;
+    }
+
+    public boolean reload(CommandSender sender) {
+        if (!running.compareAndSet(false, true)) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("reload-in-progress"));
+            return false;
+        }
+
+        List<Arena> arenas = new ArrayList<>(plugin.getArenaManager().getArenas());
+        int threads = Math.max(1, Math.min(1 + 2 * arenas.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "DeadOrAlive-Reload-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        workers = pool;
+        sender.sendMessage(plugin.getMessageManager().getMessage("reload-started"));
+
+        long started = System.nanoTime();
+        CompletableFuture<ParsedFile<FileConfiguration>> config =
+                parse(pool, new File(plugin.getDataFolder(), "config.yml"), this::loadConfig);
+        CompletableFuture<ParsedFile<MessagePack>> messages = config.thenCompose(parsed -> {
+            FileConfiguration source = parsed.value() != null ? parsed.value() : plugin.getConfig();
+            File file = plugin.getMessageManager().resolveMessageFile(source.getString("lang", "en"));
+            return parse(pool, file, target -> {
+                StampedConfiguration loaded = StampedConfiguration.load(target);
+                return MessageManager.compile(target, loaded.configuration(), loaded.stamp());
+            });
+        });
+
+        List<ArenaFiles> arenaFiles = new ArrayList<>(arenas.size());
+        for (Arena arena : arenas) {
+            RoomManager roomManager = arena.getRoomManager();
+            TeleportManager teleportManager = arena.getTeleportManager();
+            arenaFiles.add(new ArenaFiles(arena,
+                    parse(pool, roomManager.getFile(), file -> {
+                        StampedConfiguration loaded = StampedConfiguration.load(file);
+                        return new Loaded<>(loaded, RoomManager.parseRooms(loaded.configuration()));
+                    }),
+                    parse(pool, teleportManager.getFile(), file -> {
+                        StampedConfiguration loaded = StampedConfiguration.load(file);
+                        return new Loaded<>(loaded, TeleportManager.parseTeleports(arena, loaded.configuration()));
+                    })));
+        }
+
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[1 + 2 * arenaFiles.size()];
+        pending[0] = messages;
+        for (int i = 0; i < arenaFiles.size(); i++) {
+            pending[1 + 2 * i] = arenaFiles.get(i).rooms();
+            pending[2 + 2 * i] = arenaFiles.get(i).teleports();
+        }
+
+        CompletableFuture.allOf(pending).whenComplete((ignored, throwable) -> {
+            pool.shutdown();
+            long parseNanos = System.nanoTime() - started;
+            if (!plugin.isEnabled()) {
+                running.set(false);
+                return;
+            }
+            plugin.getTaskScheduler().runGlobal(() -> {
+                try {
+                    finish(sender, config.join(), messages.join(), arenaFiles, parseNanos);
+                } finally {
+                    running.set(false);
+                }
+            });
+        });
+        return true;
+    }
+
+    public void shutdown() {
+        ExecutorService pool = workers;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private void finish(CommandSender sender, ParsedFile<FileConfiguration> config, ParsedFile<MessagePack> messages,
+                        List<ArenaFiles> arenaFiles, long parseNanos) {
+        List<ParsedFile<?>> files = new ArrayList<>();
+        files.add(config);
+        files.add(messages);
+        List<ParsedArena> parsedArenas = new ArrayList<>(arenaFiles.size());
+        for (ArenaFiles pending : arenaFiles) {
+            ParsedFile<Loaded<Map<String, RoomData>>> rooms = pending.rooms().join();
+            ParsedFile<Loaded<Map<String, Map<String, TeleportPoint>>>> teleports = pending.teleports().join();
+            files.add(rooms);
+            files.add(teleports);
+            if (rooms.value() != null && teleports.value() != null) {
+                parsedArenas.add(new ParsedArena(pending.arena(), rooms.value(), teleports.value()));
+            }
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (ParsedFile<?> file : files) {
+            if (file.error() != null) {
+                errors.add(file.label() + ": " + file.error());
+            }
+        }
+        if (messages.value() != null && messages.value().getTemplateCount() == 0) {
+            errors.add(messages.label() + ": contains no messages");
+        }
+
+        if (!errors.isEmpty()) {
+            plugin.getLogger().warning("Reload aborted, the current configuration is kept:");
+            sender.sendMessage(plugin.getMessageManager().getMessage("reload-failed"));
+            for (String error : errors) {
+                plugin.getLogger().warning("  " + error);
+                sender.sendMessage(plugin.getMessageManager().getMessage("reload-file-error", "%error%", error));
+            }
+            return;
+        }
+
+        int warnings = 0;
+        for (ParsedArena arena : parsedArenas) {
+            warnings += validate(arena);
+        }
+
+        long swapStarted = System.nanoTime();
+        plugin.applyConfig(config.value());
+        plugin.getMessageManager().apply(messages.value());
+        plugin.getLobbyManager().reload();
+        for (ParsedArena arena : parsedArenas) {
+            arena.arena().applyReload(arena.rooms().source(), arena.rooms().value(),
+                    arena.teleports().source(), arena.teleports().value());
+        }
+        plugin.getArenaManager().refresh();
+        plugin.getConfigWatcher().sync();
+        plugin.getLayoutCache().rebuild();
+        long swapNanos = System.nanoTime() - swapStarted;
+
+        sender.sendMessage(plugin.getMessageManager().getMessage("reload-success"));
+        for (ParsedFile<?> file : files) {
+            sender.sendMessage(plugin.getMessageManager().getMessage("reload-file-timing",
+                    "%file%", file.label(), "%time%", formatMillis(file.nanos())));
+        }
+        sender.sendMessage(plugin.getMessageManager().getMessage("reload-summary",
+                "%files%", String.valueOf(files.size()),
+                "%parse%", formatMillis(parseNanos),
+                "%swap%", formatMillis(swapNanos),
+                "%warnings%", String.valueOf(warnings)));
+    }
+
+    private int validate(ParsedArena parsed) {
+        int warnings = 0;
+        Map<String, RoomData> rooms = parsed.rooms().value();
+        for (Map.Entry<String, Map<String, TeleportPoint>> entry : parsed.teleports().value().entrySet()) {
+            if (!rooms.containsKey(entry.getKey())) {
+                plugin.getLogger().warning("Arena '" + parsed.arena().getName() + "': teleports are defined for unknown room '"
+                        + entry.getKey() + "'.");
+                warnings++;
+            }
+            for (TeleportPoint point : entry.getValue().values()) {
+                for (String candidate : RoomGraph.getDestinationCandidates(point.getDestinationRoom())) {
+                    if (!rooms.containsKey(candidate)) {
+                        plugin.getLogger().warning("Arena '" + parsed.arena().getName() + "': teleport '" + point.getTeleportKey()
+                                + "' in " + point.getOriginRoom() + " leads to unknown room '" + candidate + "'.");
+                        warnings++;
+                    }
+                }
+            }
+        }
+        return warnings;
+    }
+
+    private <T> CompletableFuture<ParsedFile<T>> parse(ExecutorService pool, File file, Parser<T> parser) {
+        String label = plugin.getDataFolder().toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            try {
+                T value = parser.parse(file);
+                return new ParsedFile<>(label, value, System.nanoTime() - started, null);
+            } catch (IOException | InvalidConfigurationException | RuntimeException exception) {
+                String message = exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+                return new ParsedFile<>(label, null, System.nanoTime() - started, message.lines().findFirst().orElse(message));
+            }
+        }, pool);
+    }
+
+    private FileConfiguration loadConfig(File file) throws IOException, InvalidConfigurationException {
+        YamlConfiguration configuration = StampedConfiguration.load(file).configuration();
+        InputStream defaults = plugin.getResource("config.yml");
+        if (defaults != null) {
+            try (Reader reader = new InputStreamReader(defaults, StandardCharsets.UTF_8)) {
+                configuration.setDefaults(YamlConfiguration.loadConfiguration(reader));
+            }
+        }
+        return configuration;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private interface Parser<T> {
+        T parse(File file) throws IOException, InvalidConfigurationException;
+    }
+
+    private record ParsedFile<T>(String label, T value, long nanos, String error) {
+    }
+
+    private record Loaded<T>(StampedConfiguration source, T value) {
+    }
+
+    private record ArenaFiles(Arena arena, CompletableFuture<ParsedFile<Loaded<Map<String, RoomData>>>> rooms,
+                              CompletableFuture<ParsedFile<Loaded<Map<String, Map<String, TeleportPoint>>>>> teleports) {
+    }
+
+    private record ParsedArena(Arena arena, Loaded<Map<String, RoomData>> rooms,
+                               Loaded<Map<String, Map<String, TeleportPoint>>> teleports) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.foxy.deadOrAlive.room;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class RoomGraph {
+
+    public static final RoomGraph EMPTY = new RoomGraph(new String[0], new RoomType[0], new double[0], new int[0]);
+
+    private static final List<String> DEATH_ROOMS = List.of("room_4", "room_5");
+
+    private final String[] ids;
+    private final RoomType[] types;
+    private final double[] centers;
+    private final int[] stageOrder;
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    private RoomGraph(String[] ids, RoomType[] types, double[] centers, int[] stageOrder) {
+        this.ids = ids;
+        this.types = types;
+        this.centers = centers;
+        this.stageOrder = stageOrder;
+        for (int i = 0; i < ids.length; i++) {
+            indexes.put(ids[i], i);
+        }
+    }
+
+    public static RoomGraph of(Map<String, RoomType> types) {
+        return of(types, Collections.emptyMap());
+    }
+
+    public static RoomGraph of(Map<String, RoomType> roomTypes, Map<String, double[]> roomCenters) {
+        List<String> sorted = new ArrayList<>(roomTypes.keySet());
+        sorted.sort(String.CASE_INSENSITIVE_ORDER);
+
+        int size = sorted.size();
+        String[] ids = sorted.toArray(new String[0]);
+        RoomType[] types = new RoomType[size];
+        double[] centers = new double[size * 3];
+        int stages = 0;
+        for (int i = 0; i < size; i++) {
+            types[i] = roomTypes.get(ids[i]);
+            double[] center = roomCenters.get(ids[i]);
+            if (center == null) {
+                Arrays.fill(centers, i * 3, i * 3 + 3, Double.NaN);
+            } else {
+                System.arraycopy(center, 0, centers, i * 3, 3);
+            }
+            if (types[i].isStage()) {
+                stages++;
+            }
+        }
+
+        int[] stageOrder = new int[stages];
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i].isStage()) {
+                stageOrder[next++] = i;
+            }
+        }
+
+        return new RoomGraph(ids, types, centers, stageOrder);
+    }
+
+    public static List<String> getDestinationCandidates(String destinationRoom) {
+        if (destinationRoom.equalsIgnoreCase("room_death")) {
+            return DEATH_ROOMS;
+        }
+        return List.of(destinationRoom.toLowerCase());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int indexOf(String roomId) {
+        if (roomId == null) {
+            return -1;
+        }
+        Integer index = indexes.get(roomId);
+        if (index == null) {
+            index = indexes.get(roomId.toLowerCase(Locale.ROOT));
+        }
+        return index == null ? -1 : index;
+    }
+
+    public String getId(int room) {
+        return ids[room];
+    }
+
+    public List<String> getIds() {
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    public RoomType getType(int room) {
+        return types[room];
+    }
+
+    public boolean hasCenter(int room) {
+        return !Double.isNaN(centers[room * 3]);
+    }
+
+    public double getCenterX(int room) {
+        return centers[room * 3];
+    }
+
+    public double getCenterY(int room) {
+        return centers[room * 3 + 1];
+    }
+
+    public double getCenterZ(int room) {
+        return centers[room * 3 + 2];
+    }
+
+    public int getStageCount() {
+        return stageOrder.length;
+    }
+
+    public int getStageRoom(int position) {
+        return stageOrder[position];
+    }
+}
@@ -0,0 +1,256 @@
+package com.foxy.deadOrAlive.room;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.cache.FileStamp;
+import com.foxy.deadOrAlive.cache.LayoutCache;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.event.EventManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager;
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.util.Vector;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RoomManager {
+
+    private final DeadOrAlive plugin;
+    private final Arena arena;
+    private final File roomFile;
+    private FileConfiguration configuration;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public RoomManager(DeadOrAlive plugin, Arena arena) {
+        this.plugin = plugin;
+        this.arena = arena;
+        this.roomFile = new File(arena.getFolder(), "rooms.yml");
+        saveDefaultRooms();
+        LayoutCache.Cached<Map<String, RoomData>> cached = plugin.getLayoutCache().getRooms(roomFile);
+        if (cached != null) {
+            apply(null, cached.stamp(), cached.value());
+        } else {
+            reload();
+        }
+    }
+
+    private void saveDefaultRooms() {
+        if (!roomFile.exists()) {
+            if (!roomFile.getParentFile().exists()) {
+                roomFile.getParentFile().mkdirs();
+            }
+            arena.saveDefaultResource("rooms.yml", roomFile);
+        }
+    }
+
+    public void reload() {
+        StampedConfiguration loaded = StampedConfiguration.loadOrEmpty(roomFile, plugin.getLogger());
+        apply(loaded.configuration(), loaded.stamp(), parseRooms(loaded.configuration()));
+    }
+
+    public File getFile() {
+        return roomFile;
+    }
+
+    public FileStamp getFileStamp() {
+        return snapshot.stamp;
+    }
+
+    public void apply(FileConfiguration loaded, FileStamp stamp, Map<String, RoomData> rooms) {
+        configuration = loaded;
+        publish(rooms, stamp);
+    }
+
+    public void rebuildGraph(Map<String, Map<String, TeleportPoint>> teleports) {
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.rooms, compileGraph(current.rooms, teleports), current.stamp);
+    }
+
+    private void publish(Map<String, RoomData> rooms, FileStamp stamp) {
+        TeleportManager teleportManager = arena.getTeleportManager();
+        Map<String, Map<String, TeleportPoint>> teleports = teleportManager == null
+                ? Collections.emptyMap()
+                : teleportManager.getTeleports();
+        snapshot = new Snapshot(rooms, compileGraph(rooms, teleports), stamp);
+        EventManager eventManager = arena.getEventManager();
+        if (eventManager != null) {
+            eventManager.refreshChunkTickets();
+        }
+    }
+
+    static RoomGraph compileGraph(Map<String, RoomData> rooms, Map<String, Map<String, TeleportPoint>> teleports) {
+        Map<String, RoomType> types = new HashMap<>();
+        Map<String, double[]> centers = new HashMap<>();
+        for (Map.Entry<String, RoomData> entry : rooms.entrySet()) {
+            types.put(entry.getKey(), entry.getValue().getType());
+            Vector center = entry.getValue().getCenter();
+            if (center != null) {
+                centers.put(entry.getKey(), new double[]{center.getX(), center.getY(), center.getZ()});
+            }
+        }
+
+        RoomGraph graph = RoomGraph.of(types, centers);
+        for (Map<String, TeleportPoint> points : teleports.values()) {
+            for (TeleportPoint point : points.values()) {
+                point.bind(graph);
+            }
+        }
+        return graph;
+    }
+
+    public RoomGraph getGraph() {
+        return snapshot.graph;
+    }
+
+    public static Map<String, RoomData> parseRooms(FileConfiguration configuration) {
+        Map<String, RoomData> rooms = new HashMap<>();
+        if (configuration == null) {
+            return rooms;
+        }
+
+        for (String key : configuration.getKeys(false)) {
+            ConfigurationSection section = configuration.getConfigurationSection(key);
+            if (section == null) {
+                continue;
+            }
+
+            String type = section.getString("type", "safe");
+            boolean hasCoordinates = section.contains("x") && section.contains("y") && section.contains("z");
+            Vector center = null;
+            if (hasCoordinates) {
+                double x = section.getDouble("x");
+                double y = section.getDouble("y");
+                double z = section.getDouble("z");
+                if (x != 0 || y != 0 || z != 0) {
+                    center = new Vector(x, y, z);
+                }
+            }
+
+            rooms.put(key.toLowerCase(), new RoomData(type, center));
+        }
+        return rooms;
+    }
+
+    private FileConfiguration configuration() {
+        if (configuration == null) {
+            configuration = YamlConfiguration.loadConfiguration(roomFile);
+        }
+        return configuration;
+    }
+
+    public boolean save() {
+        FileConfiguration configuration = configuration();
+        try {
+            configuration.save(roomFile);
+            return true;
+        } catch (IOException exception) {
+            plugin.getLogger().severe("Could not save rooms.yml for arena '" + arena.getName() + "': " + exception.getMessage());
+            return false;
+        }
+    }
+
+    public Map<String, RoomData> getRoomData() {
+        return snapshot.rooms;
+    }
+
+    public Map<String, Vector> getRooms() {
+        return snapshot.centers;
+    }
+
+    public Vector getRoom(String roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        RoomData data = snapshot.rooms.get(roomId.toLowerCase());
+        return data == null ? null : data.getCenter();
+    }
+
+    public boolean areAllRoomsConfigured() {
+        return snapshot.allConfigured;
+    }
+
+    public boolean setRoomCoordinates(String roomId, Location location) {
+        if (roomId == null || location == null) {
+            return false;
+        }
+
+        FileConfiguration configuration = configuration();
+        String key = roomId.toLowerCase();
+        ConfigurationSection section = configuration.getConfigurationSection(key);
+        if (section == null) {
+            section = configuration.createSection(key);
+        }
+
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+
+        section.set("x", x);
+        section.set("y", y);
+        section.set("z", z);
+
+        String type = section.getString("type", "safe");
+        Vector center = (x == 0 && y == 0 && z == 0) ? null : new Vector(x, y, z);
+        Map<String, RoomData> rooms = new HashMap<>(snapshot.rooms);
+        rooms.put(key, new RoomData(type, center));
+        publish(rooms, null);
+        return save();
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), RoomGraph.EMPTY, null);
+
+        private final Map<String, RoomData> rooms;
+        private final Map<String, Vector> centers;
+        private final RoomGraph graph;
+        private final FileStamp stamp;
+        private final boolean allConfigured;
+
+        private Snapshot(Map<String, RoomData> rooms, RoomGraph graph, FileStamp stamp) {
+            this.rooms = Collections.unmodifiableMap(new HashMap<>(rooms));
+            this.graph = graph;
+            this.stamp = stamp;
+            Map<String, Vector> centers = new HashMap<>();
+            boolean allConfigured = !rooms.isEmpty();
+            for (Map.Entry<String, RoomData> entry : rooms.entrySet()) {
+                RoomData data = entry.getValue();
+                if (data != null && data.isConfigured()) {
+                    centers.put(entry.getKey(), data.getCenter());
+                } else {
+                    allConfigured = false;
+                }
+            }
+            this.centers = Collections.unmodifiableMap(centers);
+            this.allConfigured = allConfigured;
+        }
+    }
+
+    public static class RoomData {
+        private final RoomType type;
+        private final Vector center;
+
+        public RoomData(String type, Vector center) {
+            this.type = RoomType.fromString(type);
+            this.center = center;
+        }
+
+        public boolean isConfigured() {
+            return center != null;
+        }
+
+        public RoomType getType() {
+            return type;
+        }
+
+        public Vector getCenter() {
+            return center;
+        }
+    }
+}
\ No newline at end of file
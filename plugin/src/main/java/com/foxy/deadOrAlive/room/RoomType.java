@@ -0,0 +1,28 @@
+package com.foxy.deadOrAlive.room;
+
+import java.util.Locale;
+
+public enum RoomType {
+    HOME,
+    SAFE,
+    DEAD,
+    FINISH,
+    OTHER;
+
+    public static RoomType fromString(String value) {
+        if (value == null) {
+            return OTHER;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "home" -> HOME;
+            case "safe" -> SAFE;
+            case "dead", "death" -> DEAD;
+            case "finish" -> FINISH;
+            default -> OTHER;
+        };
+    }
+
+    public boolean isStage() {
+        return this == SAFE || this == FINISH;
+    }
+}
@@ -1,6 +1,8 @@
 package com.foxy.deadOrAlive.room.setup;
 
 import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.room.RoomManager;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -41,6 +43,7 @@ public class RoomSetupManager implements Listener {
     private final NamespacedKey cancelKey;
     private final File temporalFolder;
     private final Map<UUID, Integer> activeSessions = new HashMap<>();
+    private final Map<UUID, Arena> sessionArenas = new HashMap<>();
     private final DecimalFormat coordinateFormat = new DecimalFormat("#.##");
 
     public RoomSetupManager(DeadOrAlive plugin) {
@@ -55,7 +58,7 @@ public class RoomSetupManager implements Listener {
         }
     }
 
-    public void startSession(Player player) {
+    public void startSession(Player player, Arena arena) {
         UUID uuid = player.getUniqueId();
         if (activeSessions.containsKey(uuid)) {
             player.sendMessage(plugin.getMessageManager().getMessage("setrooms-already-in-progress"));
@@ -69,6 +72,7 @@ public class RoomSetupManager implements Listener {
 
         giveSetupItems(player);
         activeSessions.put(uuid, 1);
+        sessionArenas.put(uuid, arena);
         sendStartMessage(player, 1);
     }
 
@@ -208,15 +212,16 @@ public class RoomSetupManager implements Listener {
 
         Location blockLocation = event.getBlock().getLocation().add(0.5, 0, 0.5);
         String roomId = "room_" + currentRoom;
-        boolean saved = plugin.getRoomManager().setRoomCoordinates(roomId, blockLocation);
+        RoomManager roomManager = sessionArenas.get(uuid).getRoomManager();
+        boolean saved = roomManager.setRoomCoordinates(roomId, blockLocation);
 
         if (!saved) {
             player.sendMessage(plugin.getMessageManager().getMessage("setrooms-save-error"));
             return;
         }
 
-        plugin.getRoomManager().reload();
-        Vector vector = plugin.getRoomManager().getRoom(roomId);
+        roomManager.reload();
+        Vector vector = roomManager.getRoom(roomId);
         player.sendMessage(formatRoomMessage("setrooms-room-set", currentRoom, vector));
 
         int nextRoom = currentRoom + 1;
@@ -274,6 +279,7 @@ public class RoomSetupManager implements Listener {
     public void cancelSession(Player player, boolean restoreInventory, boolean notify) {
         UUID uuid = player.getUniqueId();
         activeSessions.remove(uuid);
+        sessionArenas.remove(uuid);
 
         if (restoreInventory) {
             restoreInventory(player);
@@ -286,6 +292,7 @@ public class RoomSetupManager implements Listener {
 
     private void finishSession(Player player) {
         activeSessions.remove(player.getUniqueId());
+        sessionArenas.remove(player.getUniqueId());
         restoreInventory(player);
         player.sendMessage(plugin.getMessageManager().getMessage("setrooms-finished"));
     }
@@ -297,6 +304,7 @@ public class RoomSetupManager implements Listener {
                 cancelSession(player, true, false);
             } else {
                 activeSessions.remove(uuid);
+                sessionArenas.remove(uuid);
                 File file = getTemporalFile(uuid);
                 if (file.exists() && !file.delete()) {
                     plugin.getLogger().warning("Could not delete temporal inventory file for session " + uuid);
@@ -306,16 +314,15 @@ public class RoomSetupManager implements Listener {
     }
 
     private String formatRoomMessage(String path, int roomNumber, Vector vector) {
-        String message = plugin.getMessageManager().getMessage(path);
-        message = message.replace("%room%", String.valueOf(roomNumber));
-
-        if (vector != null) {
-            message = message.replace("%x%", formatCoordinate(vector.getX()));
-            message = message.replace("%y%", formatCoordinate(vector.getY()));
-            message = message.replace("%z%", formatCoordinate(vector.getZ()));
+        if (vector == null) {
+            return plugin.getMessageManager().getMessage(path, "%room%", String.valueOf(roomNumber));
         }
 
-        return message;
+        return plugin.getMessageManager().getMessage(path,
+                "%room%", String.valueOf(roomNumber),
+                "%x%", formatCoordinate(vector.getX()),
+                "%y%", formatCoordinate(vector.getY()),
+                "%z%", formatCoordinate(vector.getZ()));
     }
 
     private String formatCoordinate(double value) {
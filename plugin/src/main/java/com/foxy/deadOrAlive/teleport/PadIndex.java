@@ -0,0 +1,143 @@
+package com.foxy.deadOrAlive.teleport;
+
+import com.foxy.deadOrAlive.teleport.TeleportManager.TeleportPoint;
+import com.foxy.deadOrAlive.util.LongHashSet;
+import com.foxy.deadOrAlive.util.LongObjectHashMap;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+public class PadIndex {
+
+    private static final WorldPads NO_PADS = new WorldPads();
+
+    private final Map<String, WorldPads> padsByWorldName = new HashMap<>();
+    private final Map<UUID, WorldPads> padsByWorldId = new ConcurrentHashMap<>();
+    private int minY = Integer.MAX_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+
+    public TeleportPoint add(TeleportPoint point) {
+        String worldName = point.getWorldName().toLowerCase(Locale.ROOT);
+        WorldPads worldPads = padsByWorldName.computeIfAbsent(worldName, key -> new WorldPads());
+        TeleportPoint displaced = worldPads.pads.put(pack(point.getX(), point.getY(), point.getZ()), point);
+        worldPads.include(point);
+        minY = Math.min(minY, point.getY());
+        maxY = Math.max(maxY, point.getY());
+        padsByWorldId.clear();
+        return displaced;
+    }
+
+    public PadIndex withChanges(Collection<TeleportPoint> removed, Collection<TeleportPoint> added,
+                                BiConsumer<TeleportPoint, TeleportPoint> collisions) {
+        PadIndex copy = new PadIndex();
+        copy.padsByWorldName.putAll(padsByWorldName);
+
+        Set<String> copiedWorlds = new HashSet<>();
+        for (TeleportPoint point : removed) {
+            WorldPads worldPads = copy.copyWorld(point.getWorldName().toLowerCase(Locale.ROOT), copiedWorlds);
+            long key = pack(point.getX(), point.getY(), point.getZ());
+            TeleportPoint existing = worldPads.pads.get(key);
+            if (existing != null && existing.sameAs(point)) {
+                worldPads.pads.remove(key);
+            }
+        }
+        for (TeleportPoint point : added) {
+            copy.copyWorld(point.getWorldName().toLowerCase(Locale.ROOT), copiedWorlds);
+            TeleportPoint displaced = copy.add(point);
+            if (displaced != null && displaced != point) {
+                collisions.accept(displaced, point);
+            }
+        }
+
+        for (String worldName : copiedWorlds) {
+            WorldPads worldPads = copy.padsByWorldName.get(worldName);
+            worldPads.recompute();
+            if (worldPads.pads.isEmpty()) {
+                copy.padsByWorldName.remove(worldName);
+            }
+        }
+        copy.minY = Integer.MAX_VALUE;
+        copy.maxY = Integer.MIN_VALUE;
+        for (WorldPads worldPads : copy.padsByWorldName.values()) {
+            copy.minY = Math.min(copy.minY, worldPads.minY);
+            copy.maxY = Math.max(copy.maxY, worldPads.maxY);
+        }
+        copy.padsByWorldId.clear();
+        return copy;
+    }
+
+    private WorldPads copyWorld(String worldName, Set<String> copiedWorlds) {
+        if (!copiedWorlds.add(worldName)) {
+            return padsByWorldName.get(worldName);
+        }
+
+        WorldPads copy = new WorldPads();
+        WorldPads original = padsByWorldName.get(worldName);
+        if (original != null) {
+            original.pads.forEachValue(point -> copy.pads.put(pack(point.getX(), point.getY(), point.getZ()), point));
+        }
+        padsByWorldName.put(worldName, copy);
+        return copy;
+    }
+
+    public boolean isWithinBand(int y) {
+        return y >= minY && y <= maxY;
+    }
+
+    public TeleportPoint get(World world, int x, int y, int z) {
+        if (world == null || y < minY || y > maxY) {
+            return null;
+        }
+        WorldPads worldPads = resolve(world);
+        if (y < worldPads.minY || y > worldPads.maxY || !worldPads.chunks.contains(packChunk(x >> 4, z >> 4))) {
+            return null;
+        }
+        return worldPads.pads.get(pack(x, y, z));
+    }
+
+    private WorldPads resolve(World world) {
+        UUID worldId = world.getUID();
+        WorldPads worldPads = padsByWorldId.get(worldId);
+        if (worldPads == null) {
+            worldPads = padsByWorldName.getOrDefault(world.getName().toLowerCase(Locale.ROOT), NO_PADS);
+            padsByWorldId.put(worldId, worldPads);
+        }
+        return worldPads;
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static long packChunk(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static class WorldPads {
+        private final LongObjectHashMap<TeleportPoint> pads = new LongObjectHashMap<>();
+        private LongHashSet chunks = new LongHashSet();
+        private int minY = Integer.MAX_VALUE;
+        private int maxY = Integer.MIN_VALUE;
+
+        private void include(TeleportPoint point) {
+            chunks.add(packChunk(point.getX() >> 4, point.getZ() >> 4));
+            minY = Math.min(minY, point.getY());
+            maxY = Math.max(maxY, point.getY());
+        }
+
+        private void recompute() {
+            chunks = new LongHashSet();
+            minY = Integer.MAX_VALUE;
+            maxY = Integer.MIN_VALUE;
+            pads.forEachValue(this::include);
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.foxy.deadOrAlive.teleport;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
+import com.foxy.deadOrAlive.cache.FileStamp;
+import com.foxy.deadOrAlive.cache.LayoutCache;
+import com.foxy.deadOrAlive.cache.StampedConfiguration;
+import com.foxy.deadOrAlive.event.EventManager;
+import com.foxy.deadOrAlive.room.RoomGraph;
+import com.foxy.deadOrAlive.util.PaperSupport;
+import com.foxy.deadOrAlive.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BlockVector;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public class TeleportManager {
+
+    private static final String LOCATION_SUFFIX = "_location";
+
+    private final DeadOrAlive plugin;
+    private final Arena arena;
+    private final File teleportFile;
+    private FileConfiguration configuration;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public TeleportManager(DeadOrAlive plugin, Arena arena) {
+        this.plugin = plugin;
+        this.arena = arena;
+        this.teleportFile = new File(arena.getFolder(), "teleports.yml");
+        saveDefaultTeleports();
+        LayoutCache.Cached<Map<String, Map<String, TeleportPoint>>> cached =
+                plugin.getLayoutCache().getTeleports(arena, teleportFile);
+        if (cached != null) {
+            apply(null, cached.stamp(), cached.value());
+        } else {
+            reload();
+        }
+    }
+
+    private void saveDefaultTeleports() {
+        if (!teleportFile.exists()) {
+            if (!teleportFile.getParentFile().exists()) {
+                teleportFile.getParentFile().mkdirs();
+            }
+            arena.saveDefaultResource("teleports.yml", teleportFile);
+        }
+    }
+
+    public void reload() {
+        StampedConfiguration loaded = StampedConfiguration.loadOrEmpty(teleportFile, plugin.getLogger());
+        apply(loaded.configuration(), loaded.stamp(), parseTeleports(arena, loaded.configuration()));
+    }
+
+    public File getFile() {
+        return teleportFile;
+    }
+
+    public FileStamp getFileStamp() {
+        return snapshot.stamp;
+    }
+
+    public void apply(FileConfiguration loaded, FileStamp stamp, Map<String, Map<String, TeleportPoint>> teleports) {
+        configuration = loaded;
+        publish(teleports, stamp);
+    }
+
+    private void publish(Map<String, Map<String, TeleportPoint>> teleports, FileStamp stamp) {
+        Snapshot published = new Snapshot(teleports, stamp);
+        snapshot = published;
+        arena.getRoomManager().rebuildGraph(published.teleports);
+        EventManager eventManager = arena.getEventManager();
+        if (eventManager != null) {
+            eventManager.refreshChunkTickets();
+        }
+    }
+
+    private FileConfiguration configuration() {
+        if (configuration == null) {
+            configuration = YamlConfiguration.loadConfiguration(teleportFile);
+        }
+        return configuration;
+    }
+
+    public boolean save() {
+        FileConfiguration configuration = configuration();
+        try {
+            configuration.save(teleportFile);
+            return true;
+        } catch (IOException exception) {
+            plugin.getLogger().severe("Could not save teleports.yml for arena '" + arena.getName() + "': " + exception.getMessage());
+            return false;
+        }
+    }
+
+    public static Map<String, Map<String, TeleportPoint>> parseTeleports(Arena arena, FileConfiguration configuration) {
+        Map<String, Map<String, TeleportPoint>> teleports = new HashMap<>();
+        if (configuration == null) {
+            return teleports;
+        }
+
+        for (String origin : configuration.getKeys(false)) {
+            ConfigurationSection roomSection = configuration.getConfigurationSection(origin);
+            if (roomSection == null) {
+                continue;
+            }
+
+            Map<String, TeleportPoint> roomTeleports = new HashMap<>();
+            for (String key : roomSection.getKeys(false)) {
+                if (key.endsWith(LOCATION_SUFFIX)) {
+                    continue;
+                }
+                String destinationRoom = roomSection.getString(key);
+                if (destinationRoom == null || destinationRoom.trim().isEmpty()) {
+                    continue;
+                }
+
+                ConfigurationSection locationSection = roomSection.getConfigurationSection(key + LOCATION_SUFFIX);
+                if (locationSection == null) {
+                    continue;
+                }
+
+                String worldName = locationSection.getString("world");
+                if (worldName == null || worldName.trim().isEmpty()) {
+                    continue;
+                }
+
+                int x = locationSection.getInt("x");
+                int y = locationSection.getInt("y");
+                int z = locationSection.getInt("z");
+
+                TeleportPoint point = new TeleportPoint(arena, origin, key, destinationRoom, worldName, x, y, z);
+                roomTeleports.put(key.toLowerCase(), point);
+            }
+
+            if (!roomTeleports.isEmpty()) {
+                teleports.put(origin.toLowerCase(), roomTeleports);
+            }
+        }
+        return teleports;
+    }
+
+    public Map<String, Map<String, TeleportPoint>> getTeleports() {
+        return snapshot.teleports;
+    }
+
+    public Set<String> getWorldNames() {
+        return snapshot.worldNames;
+    }
+
+    public boolean hasConfiguredTeleports() {
+        return snapshot.hasTeleports;
+    }
+
+    public boolean setTeleport(String origin, String teleportKey, Location location, String destinationRoom) {
+        if (origin == null || teleportKey == null || location == null || destinationRoom == null) {
+            return false;
+        }
+
+        FileConfiguration configuration = configuration();
+        String normalizedOrigin = origin.toLowerCase();
+        String normalizedKey = teleportKey.toLowerCase();
+
+        ConfigurationSection roomSection = configuration.getConfigurationSection(normalizedOrigin);
+        if (roomSection == null) {
+            roomSection = configuration.createSection(normalizedOrigin);
+        }
+
+        roomSection.set(normalizedKey, destinationRoom.toLowerCase());
+
+        ConfigurationSection locationSection = roomSection.getConfigurationSection(normalizedKey + LOCATION_SUFFIX);
+        if (locationSection == null) {
+            locationSection = roomSection.createSection(normalizedKey + LOCATION_SUFFIX);
+        }
+
+        if (location.getWorld() == null) {
+            return false;
+        }
+
+        locationSection.set("world", location.getWorld().getName());
+        locationSection.set("x", location.getBlockX());
+        locationSection.set("y", location.getBlockY());
+        locationSection.set("z", location.getBlockZ());
+
+        boolean saved = save();
+        if (saved) {
+            publish(parseTeleports(arena, configuration), null);
+            if (plugin.getArenaManager() != null) {
+                plugin.getArenaManager().rebuildPadIndex();
+            }
+        }
+        return saved;
+    }
+
+    public boolean resetTeleport(String origin, String teleportKey) {
+        if (origin == null || teleportKey == null) {
+            return false;
+        }
+
+        FileConfiguration configuration = configuration();
+        String normalizedOrigin = origin.toLowerCase();
+        String normalizedKey = teleportKey.toLowerCase();
+
+        ConfigurationSection roomSection = configuration.getConfigurationSection(normalizedOrigin);
+        if (roomSection == null) {
+            return false;
+        }
+
+        roomSection.set(normalizedKey, null);
+        roomSection.set(normalizedKey + LOCATION_SUFFIX, null);
+
+        boolean saved = save();
+        if (saved) {
+            publish(parseTeleports(arena, configuration), null);
+            if (plugin.getArenaManager() != null) {
+                plugin.getArenaManager().rebuildPadIndex();
+            }
+        }
+        return saved;
+    }
+
+    public void handlePadUse(Player player, TeleportPoint point) {
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        scheduler.runGlobal(() -> {
+            EventManager eventManager = arena.getEventManager();
+            PadRoute route = point.getRoute(eventManager.getRooms());
+            if (!eventManager.canUseTeleport(player, route)) {
+                return;
+            }
+
+            TeleportResult result = resolveDestination(player, point, route);
+            if (result == null) {
+                player.sendMessage(plugin.getMessageManager().getMessage("setteleports-missing-destination"));
+                return;
+            }
+
+            scheduler.runForEntity(player, () -> teleportThroughPad(player, result));
+        });
+    }
+
+    private void teleportThroughPad(Player player, TeleportResult result) {
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        if (!scheduler.isFolia()) {
+            player.teleport(result.getLocation());
+            announcePadTeleport(player, result);
+            arena.getEventManager().handleRoomTeleport(player, result.getGraph(), result.getRoom());
+            return;
+        }
+
+        PaperSupport.teleportAsync(player, result.getLocation()).thenAccept(teleported -> {
+            if (teleported) {
+                announcePadTeleport(player, result);
+                scheduler.runGlobal(() -> arena.getEventManager().handleRoomTeleport(player, result.getGraph(), result.getRoom()));
+            }
+        });
+    }
+
+    private void announcePadTeleport(Player player, TeleportResult result) {
+        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-teleported",
+                "%destination%", result.getDisplayName()));
+    }
+
+    private TeleportResult resolveDestination(Player player, TeleportPoint point, PadRoute route) {
+        int choice = arena.getEventManager().chooseDestination(player, point.getDestinationRoom(), route);
+        String resolvedRoom = route.getCandidateId(choice);
+
+        RoomGraph graph = arena.getRoomManager().getGraph();
+        int room = graph == route.getGraph() ? route.getCandidateRoom(choice) : graph.indexOf(resolvedRoom);
+        if (room < 0 || !graph.hasCenter(room)) {
+            return null;
+        }
+
+        World world = plugin.getServer().getWorld(point.getWorldName());
+        if (world == null) {
+            world = player.getWorld();
+        }
+
+        Location location = new Location(world, graph.getCenterX(room), graph.getCenterY(room), graph.getCenterZ(room));
+        String displayName = formatDestinationName(resolvedRoom);
+        return new TeleportResult(location, graph, room, displayName);
+    }
+
+    private String formatDestinationName(String destinationRoom) {
+        if (destinationRoom.equalsIgnoreCase("room_death")) {
+            return "Room Death";
+        }
+        return destinationRoom.replace('_', ' ').replace("room", "Room").trim();
+    }
+
+    public static class TeleportPoint {
+        private final Arena arena;
+        private final String originRoom;
+        private final String teleportKey;
+        private final String destinationRoom;
+        private final String worldName;
+        private final int x;
+        private final int y;
+        private final int z;
+        private volatile PadRoute route;
+
+        public TeleportPoint(Arena arena, String originRoom, String teleportKey, String destinationRoom, String worldName, int x, int y, int z) {
+            this.arena = arena;
+            this.originRoom = originRoom.toLowerCase();
+            this.teleportKey = teleportKey.toLowerCase();
+            this.destinationRoom = destinationRoom.toLowerCase();
+            this.worldName = worldName;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public Arena getArena() {
+            return arena;
+        }
+
+        public String getOriginRoom() {
+            return originRoom;
+        }
+
+        public String getTeleportKey() {
+            return teleportKey;
+        }
+
+        public String getDestinationRoom() {
+            return destinationRoom;
+        }
+
+        public String getWorldName() {
+            return worldName;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
+        public BlockVector getBlockVector() {
+            return new BlockVector(x, y, z);
+        }
+
+        public String getLocationKey() {
+            return worldName.toLowerCase() + ":" + x + ":" + y + ":" + z;
+        }
+
+        public void bind(RoomGraph graph) {
+            route = new PadRoute(graph, this);
+        }
+
+        public PadRoute getRoute(RoomGraph graph) {
+            PadRoute current = route;
+            return current != null && current.graph == graph ? current : new PadRoute(graph, this);
+        }
+
+        public boolean sameAs(TeleportPoint other) {
+            return other != null && arena == other.arena && x == other.x && y == other.y && z == other.z
+                    && originRoom.equals(other.originRoom) && teleportKey.equals(other.teleportKey)
+                    && destinationRoom.equals(other.destinationRoom) && worldName.equalsIgnoreCase(other.worldName);
+        }
+    }
+
+    public static final class PadRoute {
+        private final RoomGraph graph;
+        private final int originRoom;
+        private final List<String> candidateIds;
+        private final int[] candidateRooms;
+
+        private PadRoute(RoomGraph graph, TeleportPoint point) {
+            this.graph = graph;
+            this.originRoom = graph.indexOf(point.getOriginRoom());
+            this.candidateIds = RoomGraph.getDestinationCandidates(point.getDestinationRoom());
+            this.candidateRooms = new int[candidateIds.size()];
+            for (int i = 0; i < candidateRooms.length; i++) {
+                candidateRooms[i] = graph.indexOf(candidateIds.get(i));
+            }
+        }
+
+        public RoomGraph getGraph() {
+            return graph;
+        }
+
+        public int getOriginRoom() {
+            return originRoom;
+        }
+
+        public int getCandidateCount() {
+            return candidateRooms.length;
+        }
+
+        public String getCandidateId(int candidate) {
+            return candidateIds.get(candidate);
+        }
+
+        public int getCandidateRoom(int candidate) {
+            return candidateRooms[candidate];
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), null);
+
+        private final Map<String, Map<String, TeleportPoint>> teleports;
+        private final Set<String> worldNames;
+        private final boolean hasTeleports;
+        private final FileStamp stamp;
+
+        private Snapshot(Map<String, Map<String, TeleportPoint>> teleports, FileStamp stamp) {
+            this.stamp = stamp;
+            Map<String, Map<String, TeleportPoint>> copy = new HashMap<>();
+            Set<String> worldNames = new HashSet<>();
+            for (Map.Entry<String, Map<String, TeleportPoint>> entry : teleports.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().isEmpty()) {
+                    continue;
+                }
+                copy.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+                for (TeleportPoint point : entry.getValue().values()) {
+                    worldNames.add(point.getWorldName().toLowerCase(Locale.ROOT));
+                }
+            }
+            this.teleports = Collections.unmodifiableMap(copy);
+            this.worldNames = Collections.unmodifiableSet(worldNames);
+            this.hasTeleports = !copy.isEmpty();
+        }
+    }
+
+    private static class TeleportResult {
+        private final Location location;
+        private final RoomGraph graph;
+        private final int room;
+        private final String displayName;
+
+        private TeleportResult(Location location, RoomGraph graph, int room, String displayName) {
+            this.location = location;
+            this.graph = graph;
+            this.room = room;
+            this.displayName = displayName;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public RoomGraph getGraph() {
+            return graph;
+        }
+
+        public int getRoom() {
+            return room;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
\ No newline at end of file
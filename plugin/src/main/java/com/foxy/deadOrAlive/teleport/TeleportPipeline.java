@@ -0,0 +1,195 @@
+package com.foxy.deadOrAlive.teleport;
+
+import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.util.PaperSupport;
+import com.foxy.deadOrAlive.util.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TeleportPipeline {
+
+    private final DeadOrAlive plugin;
+    private final Deque<Batch> batches = new ArrayDeque<>();
+    private TaskScheduler.Task driver;
+
+    public TeleportPipeline(DeadOrAlive plugin) {
+        this.plugin = plugin;
+    }
+
+    public void submit(List<Request> requests, Runnable onDrained) {
+        Batch batch = new Batch(requests, onDrained);
+        if (!plugin.isEnabled()) {
+            drainImmediately(batch);
+            return;
+        }
+
+        if (PaperSupport.hasAsyncChunkLoading()) {
+            while (!batch.chunksToLoad.isEmpty()) {
+                ChunkTarget target = batch.chunksToLoad.poll();
+                batch.chunksInFlight.incrementAndGet();
+                PaperSupport.getChunkAtAsync(target.world(), target.chunkX(), target.chunkZ())
+                        .whenComplete((chunk, throwable) -> batch.chunksInFlight.decrementAndGet());
+            }
+        }
+
+        batches.add(batch);
+        startDriver();
+    }
+
+    public boolean isBusy() {
+        return !batches.isEmpty();
+    }
+
+    public void shutdown() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+        while (!batches.isEmpty()) {
+            drainImmediately(batches.poll());
+        }
+    }
+
+    private void startDriver() {
+        if (driver != null) {
+            return;
+        }
+
+        driver = plugin.getTaskScheduler().runGlobalTimer(this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        int maxPerTick = Math.max(1, plugin.getConfig().getInt("event.teleports-per-tick", 20));
+        long budgetNanos = Math.max(1L, plugin.getConfig().getLong("event.teleport-budget-ms", 10L)) * 1_000_000L;
+        long deadline = System.nanoTime() + budgetNanos;
+        int processed = 0;
+
+        while (!batches.isEmpty()) {
+            Batch batch = batches.peek();
+            if (!preload(batch, deadline)) {
+                break;
+            }
+
+            Request request;
+            while (processed < maxPerTick && System.nanoTime() < deadline && (request = batch.pending.poll()) != null) {
+                teleport(batch, request);
+                processed++;
+            }
+
+            if (!batch.pending.isEmpty() || batch.teleportsInFlight.get() > 0) {
+                break;
+            }
+
+            batches.poll();
+            complete(batch);
+        }
+
+        if (batches.isEmpty() && driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+
+    private boolean preload(Batch batch, long deadline) {
+        ChunkTarget target;
+        while (System.nanoTime() < deadline && (target = batch.chunksToLoad.poll()) != null) {
+            target.world().getChunkAt(target.chunkX(), target.chunkZ());
+        }
+        return batch.chunksToLoad.isEmpty() && batch.chunksInFlight.get() == 0;
+    }
+
+    private void teleport(Batch batch, Request request) {
+        Player player = request.player();
+        if (!player.isOnline()) {
+            return;
+        }
+
+        if (!PaperSupport.hasAsyncTeleport()) {
+            player.teleport(request.destination());
+            return;
+        }
+
+        batch.teleportsInFlight.incrementAndGet();
+        plugin.getTaskScheduler().runForEntity(player,
+                () -> PaperSupport.teleportAsync(player, request.destination())
+                        .whenComplete((result, throwable) -> batch.teleportsInFlight.decrementAndGet()),
+                batch.teleportsInFlight::decrementAndGet);
+    }
+
+    private void drainImmediately(Batch batch) {
+        TaskScheduler scheduler = plugin.getTaskScheduler();
+        int skipped = 0;
+        Request request;
+        while ((request = batch.pending.poll()) != null) {
+            Player player = request.player();
+            if (!player.isOnline()) {
+                continue;
+            }
+
+            if (!scheduler.isFolia()) {
+                player.teleport(request.destination());
+            } else if (scheduler.isOwnedByCurrentRegion(player)) {
+                PaperSupport.teleportAsync(player, request.destination());
+            } else if (plugin.isEnabled()) {
+                scheduler.teleport(player, request.destination());
+            } else {
+                // Folia rejects synchronous teleports and new tasks from a disabled plugin.
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            plugin.getLogger().warning("Skipped " + skipped + " queued teleports while disabling; those players stay"
+                    + " where they are.");
+        }
+        complete(batch);
+    }
+
+    private void complete(Batch batch) {
+        if (batch.onDrained == null) {
+            return;
+        }
+        try {
+            batch.onDrained.run();
+        } catch (RuntimeException exception) {
+            plugin.getLogger().severe("Error while finishing a teleport batch: " + exception.getMessage());
+        }
+    }
+
+    public record Request(Player player, Location destination) {
+    }
+
+    private record ChunkTarget(World world, int chunkX, int chunkZ) {
+    }
+
+    private static class Batch {
+        private final Deque<Request> pending;
+        private final Deque<ChunkTarget> chunksToLoad = new ArrayDeque<>();
+        private final AtomicInteger chunksInFlight = new AtomicInteger();
+        private final AtomicInteger teleportsInFlight = new AtomicInteger();
+        private final Runnable onDrained;
+
+        private Batch(List<Request> requests, Runnable onDrained) {
+            this.pending = new ArrayDeque<>(requests);
+            this.onDrained = onDrained;
+            Set<ChunkTarget> chunks = new HashSet<>();
+            for (Request request : requests) {
+                Location destination = request.destination();
+                if (destination.getWorld() == null) {
+                    continue;
+                }
+                ChunkTarget target = new ChunkTarget(destination.getWorld(), destination.getBlockX() >> 4, destination.getBlockZ() >> 4);
+                if (chunks.add(target)) {
+                    chunksToLoad.add(target);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.foxy.deadOrAlive.teleport.setup;
 
 import com.foxy.deadOrAlive.DeadOrAlive;
+import com.foxy.deadOrAlive.arena.Arena;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -37,6 +38,7 @@ public class TeleportSetupManager implements Listener {
     private final NamespacedKey cancelKey;
     private final File temporalFolder;
     private final Map<UUID, TeleportProgress> activeSessions = new HashMap<>();
+    private final Map<UUID, Arena> sessionArenas = new HashMap<>();
     private final List<TeleportStep> steps;
 
     public TeleportSetupManager(DeadOrAlive plugin) {
@@ -80,7 +82,7 @@ public class TeleportSetupManager implements Listener {
         return list;
     }
 
-    public void startSession(Player player) {
+    public void startSession(Player player, Arena arena) {
         UUID uuid = player.getUniqueId();
 
         if (activeSessions.containsKey(uuid)) {
@@ -96,6 +98,7 @@ public class TeleportSetupManager implements Listener {
         giveSetupItems(player);
         TeleportProgress progress = new TeleportProgress(0, 0);
         activeSessions.put(uuid, progress);
+        sessionArenas.put(uuid, arena);
         sendTargetMessage(player, progress);
     }
 
@@ -243,19 +246,19 @@ public class TeleportSetupManager implements Listener {
         TeleportStep step = steps.get(progress.stepIndex());
         TeleportTarget target = step.targets().get(progress.targetIndex());
 
-        boolean saved = plugin.getTeleportManager().setTeleport(step.originRoom(), target.key(), location, target.destination());
+        boolean saved = sessionArenas.get(uuid).getTeleportManager().setTeleport(step.originRoom(), target.key(), location, target.destination());
         if (!saved) {
             player.sendMessage(plugin.getMessageManager().getMessage("setteleports-save-error"));
             event.getBlockPlaced().setType(Material.AIR);
             return;
         }
 
-        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-target-set")
-                .replace("%room%", formatRoom(step.originRoom()))
-                .replace("%destination%", target.displayName())
-                .replace("%x%", String.valueOf(location.getBlockX()))
-                .replace("%y%", String.valueOf(location.getBlockY()))
-                .replace("%z%", String.valueOf(location.getBlockZ())));
+        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-target-set",
+                "%room%", formatRoom(step.originRoom()),
+                "%destination%", target.displayName(),
+                "%x%", String.valueOf(location.getBlockX()),
+                "%y%", String.valueOf(location.getBlockY()),
+                "%z%", String.valueOf(location.getBlockZ())));
 
         advanceProgress(player, progress);
     }
@@ -278,17 +281,17 @@ public class TeleportSetupManager implements Listener {
 
         TeleportProgress updated = new TeleportProgress(nextStepIndex, 0);
         activeSessions.put(player.getUniqueId(), updated);
-        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-next-room")
-                .replace("%room%", formatRoom(steps.get(nextStepIndex).originRoom())));
+        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-next-room",
+                "%room%", formatRoom(steps.get(nextStepIndex).originRoom())));
         sendTargetMessage(player, updated);
     }
 
     private void sendTargetMessage(Player player, TeleportProgress progress) {
         TeleportStep step = steps.get(progress.stepIndex());
         TeleportTarget target = step.targets().get(progress.targetIndex());
-        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-start")
-                .replace("%room%", formatRoom(step.originRoom()))
-                .replace("%destination%", target.displayName()));
+        player.sendMessage(plugin.getMessageManager().getMessage("setteleports-start",
+                "%room%", formatRoom(step.originRoom()),
+                "%destination%", target.displayName()));
     }
 
     private String formatRoom(String roomId) {
@@ -302,6 +305,7 @@ public class TeleportSetupManager implements Listener {
     public void cancelSession(Player player, boolean restoreInventory, boolean notify) {
         UUID uuid = player.getUniqueId();
         activeSessions.remove(uuid);
+        sessionArenas.remove(uuid);
 
         if (restoreInventory) {
             restoreInventory(player);
@@ -314,6 +318,7 @@ public class TeleportSetupManager implements Listener {
 
     private void finishSession(Player player) {
         activeSessions.remove(player.getUniqueId());
+        sessionArenas.remove(player.getUniqueId());
         restoreInventory(player);
         player.sendMessage(plugin.getMessageManager().getMessage("setteleports-finished"));
     }
@@ -368,6 +373,7 @@ public class TeleportSetupManager implements Listener {
                 cancelSession(player, true, false);
             } else {
                 activeSessions.remove(uuid);
+                sessionArenas.remove(uuid);
                 File file = getTemporalFile(uuid);
                 if (file.exists() && !file.delete()) {
                     plugin.getLogger().warning("Could not delete teleport temporal inventory for session " + uuid);
@@ -0,0 +1,77 @@
+package com.foxy.deadOrAlive.util;
+
+public class LongHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    public LongHashSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = LongObjectHashMap.tableSizeFor(Math.max(DEFAULT_CAPACITY, expectedSize * 2));
+        this.keys = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean contains(long key) {
+        int index = LongObjectHashMap.mix(key) & mask;
+        while (used[index]) {
+            if (keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean add(long key) {
+        int index = LongObjectHashMap.mix(key) & mask;
+        while (used[index]) {
+            if (keys[index] == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        used[index] = true;
+        if (++size * 2 > used.length) {
+            resize(used.length * 2);
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i]) {
+                continue;
+            }
+            int index = LongObjectHashMap.mix(oldKeys[i]) & mask;
+            while (used[index]) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            used[index] = true;
+        }
+    }
+}
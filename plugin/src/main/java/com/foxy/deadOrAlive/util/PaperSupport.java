@@ -0,0 +1,58 @@
+package com.foxy.deadOrAlive.util;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+
+public final class PaperSupport {
+
+    private static final Method TELEPORT_ASYNC = findMethod(Entity.class, "teleportAsync", Location.class);
+    private static final Method CHUNK_AT_ASYNC = findMethod(World.class, "getChunkAtAsync", int.class, int.class);
+
+    private PaperSupport() {
+    }
+
+    public static boolean hasAsyncTeleport() {
+        return TELEPORT_ASYNC != null;
+    }
+
+    public static boolean hasAsyncChunkLoading() {
+        return CHUNK_AT_ASYNC != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<Boolean> teleportAsync(Entity entity, Location location) {
+        if (TELEPORT_ASYNC != null) {
+            try {
+                return (CompletableFuture<Boolean>) TELEPORT_ASYNC.invoke(entity, location);
+            } catch (ReflectiveOperationException | ClassCastException ignored) {
+                // Fall back to the synchronous Bukkit teleport below.
+            }
+        }
+        return CompletableFuture.completedFuture(entity.teleport(location));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static CompletableFuture<Chunk> getChunkAtAsync(World world, int chunkX, int chunkZ) {
+        if (CHUNK_AT_ASYNC != null) {
+            try {
+                return (CompletableFuture<Chunk>) CHUNK_AT_ASYNC.invoke(world, chunkX, chunkZ);
+            } catch (ReflectiveOperationException | ClassCastException ignored) {
+                // Fall back to the synchronous Bukkit chunk load below.
+            }
+        }
+        return CompletableFuture.completedFuture(world.getChunkAt(chunkX, chunkZ));
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameters) {
+        try {
+            return type.getMethod(name, parameters);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+}
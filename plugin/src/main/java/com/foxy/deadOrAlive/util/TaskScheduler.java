@@ -0,0 +1,187 @@
+package com.foxy.deadOrAlive.util;
+
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+public final class TaskScheduler {
+
+    private static final String FOLIA_SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final boolean folia;
+    private Object globalScheduler;
+    private Object regionScheduler;
+    private Object asyncScheduler;
+    private Method globalRunAtFixedRate;
+    private Method globalExecute;
+    private Method regionExecute;
+    private Method asyncRunNow;
+    private Method entityGetScheduler;
+    private Method entityRun;
+    private Method taskCancel;
+    private Method isGlobalTickThread;
+    private Method isOwnedByEntity;
+    private Method isOwnedByChunk;
+
+    public TaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        this.folia = classExists("io.papermc.paper.threadedregions.RegionizedServer") && resolveFoliaSchedulers();
+    }
+
+    private boolean resolveFoliaSchedulers() {
+        Server server = plugin.getServer();
+        try {
+            Class<?> globalType = Class.forName(FOLIA_SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+            Class<?> regionType = Class.forName(FOLIA_SCHEDULER_PACKAGE + "RegionScheduler");
+            Class<?> asyncType = Class.forName(FOLIA_SCHEDULER_PACKAGE + "AsyncScheduler");
+            Class<?> entityType = Class.forName(FOLIA_SCHEDULER_PACKAGE + "EntityScheduler");
+            Class<?> taskType = Class.forName(FOLIA_SCHEDULER_PACKAGE + "ScheduledTask");
+
+            globalScheduler = Server.class.getMethod("getGlobalRegionScheduler").invoke(server);
+            regionScheduler = Server.class.getMethod("getRegionScheduler").invoke(server);
+            asyncScheduler = Server.class.getMethod("getAsyncScheduler").invoke(server);
+            globalRunAtFixedRate = globalType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+            globalExecute = globalType.getMethod("execute", Plugin.class, Runnable.class);
+            regionExecute = regionType.getMethod("execute", Plugin.class, World.class, int.class, int.class, Runnable.class);
+            asyncRunNow = asyncType.getMethod("runNow", Plugin.class, Consumer.class);
+            entityGetScheduler = Entity.class.getMethod("getScheduler");
+            entityRun = entityType.getMethod("run", Plugin.class, Consumer.class, Runnable.class);
+            taskCancel = taskType.getMethod("cancel");
+            isGlobalTickThread = Server.class.getMethod("isGlobalTickThread");
+            isOwnedByEntity = Server.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+            isOwnedByChunk = Server.class.getMethod("isOwnedByCurrentRegion", World.class, int.class, int.class);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            plugin.getLogger().severe("Running on a regionised server, but its schedulers could not be resolved: "
+                    + exception.getMessage());
+            return false;
+        }
+    }
+
+    public boolean isFolia() {
+        return folia;
+    }
+
+    public Task runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        if (!folia) {
+            BukkitTask bukkitTask = plugin.getServer().getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+            return bukkitTask::cancel;
+        }
+
+        Consumer<Object> consumer = scheduled -> task.run();
+        Object scheduled = invoke(globalRunAtFixedRate, globalScheduler, plugin, consumer,
+                Math.max(1L, delayTicks), Math.max(1L, periodTicks));
+        return () -> invoke(taskCancel, scheduled);
+    }
+
+    public void runGlobal(Runnable task) {
+        if (!folia) {
+            runOnPrimaryThread(task);
+        } else if ((Boolean) invoke(isGlobalTickThread, plugin.getServer())) {
+            task.run();
+        } else {
+            invoke(globalExecute, globalScheduler, plugin, task);
+        }
+    }
+
+    public void runForEntity(Entity entity, Runnable task) {
+        runForEntity(entity, task, null);
+    }
+
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        if (!folia) {
+            runOnPrimaryThread(task);
+            return;
+        }
+
+        if (isOwnedByCurrentRegion(entity)) {
+            task.run();
+            return;
+        }
+
+        Consumer<Object> consumer = scheduled -> task.run();
+        Object scheduler = invoke(entityGetScheduler, entity);
+        if (invoke(entityRun, scheduler, plugin, consumer, retired) == null && retired != null) {
+            retired.run();
+        }
+    }
+
+    public boolean isOwnedByCurrentRegion(Entity entity) {
+        if (!folia) {
+            return plugin.getServer().isPrimaryThread();
+        }
+        return (Boolean) invoke(isOwnedByEntity, plugin.getServer(), entity);
+    }
+
+    public void runAtChunk(World world, int chunkX, int chunkZ, Runnable task) {
+        if (!folia) {
+            runOnPrimaryThread(task);
+        } else if ((Boolean) invoke(isOwnedByChunk, plugin.getServer(), world, chunkX, chunkZ)) {
+            task.run();
+        } else {
+            invoke(regionExecute, regionScheduler, plugin, world, chunkX, chunkZ, task);
+        }
+    }
+
+    public void runAsync(Runnable task) {
+        if (!folia) {
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
+            return;
+        }
+
+        Consumer<Object> consumer = scheduled -> task.run();
+        invoke(asyncRunNow, asyncScheduler, plugin, consumer);
+    }
+
+    public void teleport(Entity entity, Location location) {
+        runForEntity(entity, () -> {
+            if (folia) {
+                PaperSupport.teleportAsync(entity, location);
+            } else {
+                entity.teleport(location);
+            }
+        });
+    }
+
+    private void runOnPrimaryThread(Runnable task) {
+        if (plugin.getServer().isPrimaryThread()) {
+            task.run();
+        } else {
+            plugin.getServer().getScheduler().runTask(plugin, task);
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static boolean classExists(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    public interface Task {
+        void cancel();
+    }
+}
@@ -0,0 +1,154 @@
+package com.foxy.deadOrAlive.util;
+
+public final class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timer[][] wheels = new Timer[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;
+
+    public TimerWheel() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer sentinel = new Timer(this, 0L, null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                wheels[level][slot] = sentinel;
+            }
+        }
+    }
+
+    public Timer schedule(long delayTicks, Runnable action) {
+        return scheduleRepeating(delayTicks, 0L, action);
+    }
+
+    public Timer scheduleRepeating(long delayTicks, long periodTicks, Runnable action) {
+        Timer timer = new Timer(this, Math.max(0L, periodTicks), action);
+        timer.deadline = currentTick + Math.max(1L, delayTicks);
+        insert(timer);
+        return timer;
+    }
+
+    public int tick() {
+        currentTick++;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+        }
+
+        int fired = 0;
+        Timer sentinel = wheels[0][(int) (currentTick & SLOT_MASK)];
+        while (sentinel.next != sentinel) {
+            Timer timer = sentinel.next;
+            unlink(timer);
+            if (timer.deadline > currentTick) {
+                insert(timer);
+                continue;
+            }
+
+            timer.action.run();
+            fired++;
+            if (timer.periodTicks > 0 && !timer.cancelled && timer.prev == null) {
+                timer.deadline = currentTick + timer.periodTicks;
+                insert(timer);
+            }
+        }
+        return fired;
+    }
+
+    public void clear() {
+        for (Timer[] wheel : wheels) {
+            for (Timer sentinel : wheel) {
+                Timer timer = sentinel.next;
+                while (timer != sentinel) {
+                    Timer next = timer.next;
+                    timer.cancelled = true;
+                    timer.prev = null;
+                    timer.next = null;
+                    timer = next;
+                }
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+            }
+        }
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    private void cascade(int level, int slot) {
+        Timer sentinel = wheels[level][slot];
+        while (sentinel.next != sentinel) {
+            Timer timer = sentinel.next;
+            unlink(timer);
+            insert(timer);
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delay = Math.min(Math.max(0L, timer.deadline - currentTick), MAX_DELAY);
+        long target = currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        Timer sentinel = wheels[level][(int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+        size++;
+    }
+
+    private void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        size--;
+    }
+
+    public static final class Timer {
+        private final TimerWheel wheel;
+        private final long periodTicks;
+        private final Runnable action;
+        private Timer prev;
+        private Timer next;
+        private long deadline;
+        private boolean cancelled;
+
+        private Timer(TimerWheel wheel, long periodTicks, Runnable action) {
+            this.wheel = wheel;
+            this.periodTicks = periodTicks;
+            this.action = action;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            if (prev != null) {
+                wheel.unlink(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getRemainingTicks() {
+            return prev == null ? 0L : Math.max(0L, deadline - wheel.currentTick);
+        }
+    }
+}